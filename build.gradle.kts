@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.2"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.github"
@@ -10,7 +11,7 @@ description = "mamuriApp"
 
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(21)
     }
 }
 
@@ -33,6 +34,15 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     runtimeOnly("org.postgresql:postgresql")
 
+    // Monitoring
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Tokenizer
+    implementation("com.knuddels:jtokkit:1.1.0")
+
     // Flyway
     implementation("org.springframework.boot:spring-boot-starter-flyway")
     implementation("org.flywaydb:flyway-database-postgresql")
@@ -58,3 +68,33 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// Load test: ./gradlew loadTest (플랫폼/가상 스레드 모드별 처리량을 build/reports/load 에 기록)
+val loadTest by tasks.registering(Test::class) {
+    description = "Runs @Tag(\"load\") throughput tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    shouldRunAfter(tasks.test)
+}
+
+// Benchmark: ./gradlew jmh (-PjmhIncludes=Jwt 로 일부만 실행)
+// 결과는 build/reports/jmh/results.json 에 기록되며, 커밋 간 비교 시 이 파일을 보관한다.
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
+}
@@ -5,11 +5,15 @@ import {
   SignupRequest,
   LoginRequest,
   Diary,
+  DiarySummary,
   DiaryCreateRequest,
   DiaryUpdateRequest,
+  DiaryBatchOperation,
+  DiaryBatchResult,
   DiaryCalendarResponse,
   AiComment,
   UserSettings,
+  SyncResponse,
 } from '../types';
 
 // 개발 환경에서는 localhost, 프로덕션에서는 실제 서버 URL
@@ -131,12 +135,12 @@ export const authApi = {
 
 // 일기 API
 export const diaryApi = {
-  async getList(): Promise<Diary[]> {
-    return request<Diary[]>('/diaries');
+  async getList(): Promise<DiarySummary[]> {
+    return request<DiarySummary[]>('/diaries?all=true');
   },
 
-  async getListByMonth(year: number, month: number): Promise<Diary[]> {
-    return request<Diary[]>(`/diaries?year=${year}&month=${month}`);
+  async getListByMonth(year: number, month: number): Promise<DiarySummary[]> {
+    return request<DiarySummary[]>(`/diaries?year=${year}&month=${month}`);
   },
 
   async getCalendar(year: number, month: number): Promise<DiaryCalendarResponse> {
@@ -147,9 +151,11 @@ export const diaryApi = {
     return request<Diary>(`/diaries/${id}`);
   },
 
-  async create(data: DiaryCreateRequest): Promise<Diary> {
+  // idempotencyKey: 재전송해도 한 번만 작성되도록 작성 시도마다 한 번 만들어 재사용하는 키
+  async create(data: DiaryCreateRequest, idempotencyKey?: string): Promise<Diary> {
     return request<Diary>('/diaries', {
       method: 'POST',
+      headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined,
       body: JSON.stringify(data),
     });
   },
@@ -167,9 +173,17 @@ export const diaryApi = {
     });
   },
 
-  async retryAiComment(diaryId: number): Promise<AiComment> {
+  async batch(operations: DiaryBatchOperation[]): Promise<DiaryBatchResult[]> {
+    return request<DiaryBatchResult[]>('/diaries/batch', {
+      method: 'POST',
+      body: JSON.stringify({ operations }),
+    });
+  },
+
+  async retryAiComment(diaryId: number, idempotencyKey?: string): Promise<AiComment> {
     return request<AiComment>(`/diaries/${diaryId}/ai-comment/retry`, {
       method: 'POST',
+      headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined,
     });
   },
 };
@@ -187,3 +201,11 @@ export const settingsApi = {
     });
   },
 };
+
+// 동기화 API
+export const syncApi = {
+  async getChanges(since?: string): Promise<SyncResponse> {
+    const query = since ? `?since=${encodeURIComponent(since)}` : '';
+    return request<SyncResponse>(`/sync${query}`);
+  },
+};
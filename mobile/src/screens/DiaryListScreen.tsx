@@ -11,7 +11,7 @@ import {
 import { useFocusEffect } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import { diaryApi } from '../api/client';
-import { Diary, DiaryStackParamList } from '../types';
+import { DiarySummary, DiaryStackParamList } from '../types';
 
 type Props = {
   navigation: NativeStackNavigationProp<DiaryStackParamList, 'DiaryListHome'>;
@@ -20,7 +20,7 @@ type Props = {
 interface DiarySection {
   title: string;
   diaryDate: string;
-  data: Diary[];
+  data: DiarySummary[];
 }
 
 const WEEKDAYS = ['일', '월', '화', '수', '목', '금', '토'];
@@ -45,7 +45,7 @@ const isSameDate = (date1: string, date2: string): boolean => {
 };
 
 export default function DiaryListScreen({ navigation }: Props) {
-  const [diaries, setDiaries] = useState<Diary[]>([]);
+  const [diaries, setDiaries] = useState<DiarySummary[]>([]);
   const [calendarDates, setCalendarDates] = useState<string[]>([]);
   const [selectedMonth, setSelectedMonth] = useState(new Date());
   const [isLoading, setIsLoading] = useState(true);
@@ -97,7 +97,7 @@ export default function DiaryListScreen({ navigation }: Props) {
 
   // 날짜별로 그룹화
   const sections: DiarySection[] = useMemo(() => {
-    const grouped = new Map<string, Diary[]>();
+    const grouped = new Map<string, DiarySummary[]>();
 
     diaries.forEach(diary => {
       const dateKey = diary.diaryDate;
@@ -187,15 +187,15 @@ export default function DiaryListScreen({ navigation }: Props) {
     );
   };
 
-  const renderDiaryCard = ({ item }: { item: Diary }) => (
+  const renderDiaryCard = ({ item }: { item: DiarySummary }) => (
     <TouchableOpacity
       style={styles.diaryCard}
       onPress={() => navigation.navigate('DiaryDetail', { diaryId: item.id })}
       activeOpacity={0.7}
     >
       <Text style={styles.title} numberOfLines={1}>{item.title}</Text>
-      <Text style={styles.content} numberOfLines={2}>{item.content}</Text>
-      {item.aiComment && (
+      <Text style={styles.content} numberOfLines={2}>{item.excerpt}</Text>
+      {item.hasAiComment && (
         <View style={styles.aiCommentBadge}>
           <Text style={styles.aiCommentText}>AI 코멘트</Text>
         </View>
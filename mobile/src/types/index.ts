@@ -39,6 +39,15 @@ export interface Diary {
   updatedAt: string;
 }
 
+export interface DiarySummary {
+  id: number;
+  title: string;
+  excerpt: string; // 본문 앞부분 미리보기
+  diaryDate: string; // YYYY-MM-DD
+  hasAiComment: boolean;
+  createdAt: string;
+}
+
 export interface DiaryCreateRequest {
   title: string;
   content: string;
@@ -51,6 +60,24 @@ export interface DiaryUpdateRequest {
   diaryDate?: string; // YYYY-MM-DD (선택적)
 }
 
+export interface DiaryBatchOperation {
+  op: 'CREATE' | 'UPDATE' | 'DELETE';
+  idempotencyKey: string; // 클라이언트가 만든 연산 키 (재전송해도 한 번만 적용)
+  diaryId?: number; // UPDATE/DELETE 대상
+  targetKey?: string; // 서버 ID를 모르는 일기를 만든 CREATE 연산의 키 (diaryId 대신)
+  title?: string;
+  content?: string;
+  diaryDate?: string; // YYYY-MM-DD
+}
+
+export interface DiaryBatchResult {
+  idempotencyKey: string;
+  op: 'CREATE' | 'UPDATE' | 'DELETE';
+  status: 'APPLIED' | 'DUPLICATE' | 'NOT_FOUND';
+  diaryId?: number;
+  aiComment?: { status: 'PENDING' };
+}
+
 export interface DiaryCalendarResponse {
   year: number;
   month: number;
@@ -63,6 +90,37 @@ export interface UserSettings {
   aiEnabled: boolean;
 }
 
+// 동기화
+export interface SyncDiary {
+  id: number;
+  title: string;
+  content: string;
+  diaryDate: string; // YYYY-MM-DD
+  createdAt: string;
+  updatedAt: string | null;
+}
+
+export interface SyncAiComment {
+  id: number;
+  diaryId: number;
+  content: string;
+  createdAt: string;
+}
+
+export interface SyncDeletion {
+  type: 'DIARY' | 'AI_COMMENT'; // DIARY 삭제 시 해당 일기의 AI 코멘트도 함께 삭제
+  id: number;
+}
+
+export interface SyncResponse {
+  diaries: SyncDiary[];
+  aiComments: SyncAiComment[];
+  deleted: SyncDeletion[];
+  nextToken: string; // 반영 후 저장해 다음 요청의 since로 사용
+  hasMore: boolean; // true면 nextToken으로 바로 다시 요청
+  reset: boolean; // true면 로컬 데이터를 비운 뒤 반영
+}
+
 // 네비게이션
 export type RootStackParamList = {
   Auth: undefined;
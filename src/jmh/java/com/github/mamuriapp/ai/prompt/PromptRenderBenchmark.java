@@ -0,0 +1,52 @@
+package com.github.mamuriapp.ai.prompt;
+
+import com.github.mamuriapp.benchmark.KoreanDiaryCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프롬프트 렌더링 벤치마크.
+ * 컴파일된 템플릿 렌더링과 매 호출 {@link String#replace} 방식을 같은 템플릿·본문으로 비교한다.
+ * 본문은 AiCommentService가 자르는 최대 길이(3000자)를 넘지 않는 범위로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptRenderBenchmark {
+
+    @Param({"300", "3000"})
+    public int contentLength;
+
+    private String template;
+    private CompiledPrompt compiled;
+    private String content;
+
+    @Setup
+    public void setUp() throws IOException {
+        template = new ClassPathResource("prompts/ai_comment_v1_warm.txt")
+                .getContentAsString(StandardCharsets.UTF_8);
+        compiled = CompiledPrompt.compile("v1", "warm", template);
+        content = KoreanDiaryCorpus.generate(contentLength, 7L);
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        return compiled.render(content);
+    }
+
+    @Benchmark
+    public String stringReplace() {
+        return template.replace(CompiledPrompt.CONTENT_PLACEHOLDER, content);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.mamuriapp.ai.provider;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.global.config.ThreadingConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OpenAiProvider}의 호출당 오버헤드 벤치마크.
+ * 로컬 스텁 HTTP 서버가 고정된 Chat Completions 응답을 즉시 돌려주므로
+ * 측정값은 네트워크 지연을 제외한 전송 계층과 응답 파싱 비용이다.
+ * 응답 파싱만 따로 떼어 스트리밍 파서와 Map 역직렬화도 비교한다.
+ * JDK 내장 HttpServer는 HTTP/1.1만 지원하므로(TLS·ALPN, h2c 업그레이드 없음) HTTP/1.1로 고정한다.
+ * HTTP/2로 설정해도 업그레이드가 거절되어 HTTP/1.1로 측정되기 때문이다.
+ * 따라서 이 벤치마크는 HTTP/2 경로를 검증하지 않는다. JDK HttpClient는 평문 HTTP/2를 사전 합의(prior knowledge)로
+ * 시작하지 못하고 첫 요청의 h2c 업그레이드에 의존하는데, 본문이 있는 POST의 업그레이드는 서버가 받아 주지 않는 경우가 많다.
+ * HTTP/2를 재려면 TLS·ALPN을 지원하는 스텁 서버가 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiProviderBenchmark {
+
+    private static final String RESPONSE = """
+            {"id":"chatcmpl-bench","object":"chat.completion","created":1767225600,
+             "model":"gpt-4o-mini","system_fingerprint":"fp_bench",
+             "choices":[{"index":0,"message":{"role":"assistant",
+               "content":"오늘 하루도 정말 수고 많으셨어요. 일기를 통해 마음을 나눠 주셔서 감사해요. 내일도 좋은 하루가 되시길 바랄게요.",
+               "refusal":null,"annotations":[]},"logprobs":null,"finish_reason":"stop"}],
+             "usage":{"prompt_tokens":412,"completion_tokens":58,"total_tokens":470,
+               "prompt_tokens_details":{"cached_tokens":0,"audio_tokens":0},
+               "completion_tokens_details":{"reasoning_tokens":0,"audio_tokens":0}},
+             "service_tier":"default"}
+            """;
+
+    private static final byte[] RESPONSE_BYTES = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private OpenAiProvider provider;
+    private ObjectMapper objectMapper;
+    private ChatCompletionParser parser;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE_BYTES.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RESPONSE_BYTES);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        AiProperties aiProperties = new AiProperties();
+        aiProperties.setProvider("openai");
+        aiProperties.getApi().setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+        aiProperties.getApi().setKey("bench");
+        aiProperties.getApi().setHttpVersion("HTTP_1_1");
+
+        objectMapper = JsonMapper.builder().build();
+        provider = new OpenAiProvider(aiProperties, objectMapper, new ThreadingConfig());
+        parser = new ChatCompletionParser(objectMapper);
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.shutdown();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public LlmResponse generate() {
+        return provider.generate("벤치마크 프롬프트", 180);
+    }
+
+    @Benchmark
+    public ChatCompletionParser.Completion parseStreaming() {
+        return parser.parse(new ByteArrayInputStream(RESPONSE_BYTES));
+    }
+
+    @Benchmark
+    public Map<?, ?> parseAsMap() {
+        return objectMapper.readValue(RESPONSE_BYTES, Map.class);
+    }
+}
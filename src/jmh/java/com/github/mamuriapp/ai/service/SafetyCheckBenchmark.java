@@ -0,0 +1,75 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.repository.SafetyEventRepository;
+import com.github.mamuriapp.ai.repository.SafetyKeywordRepository;
+import com.github.mamuriapp.benchmark.KoreanDiaryCorpus;
+import com.github.mamuriapp.diary.entity.Diary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SafetyCheckService#check} 벤치마크.
+ * 본문 길이별로 키워드가 없는 경우(전체 스캔)와 본문 끝에 위기 키워드가 있는 경우를 측정한다.
+ * 저장소는 아무 일도 하지 않는 프록시로 대체하여 DB 비용을 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SafetyCheckBenchmark {
+
+    @Param({"300", "3000", "30000"})
+    public int contentLength;
+
+    private SafetyCheckService safetyCheckService;
+    private Diary safeDiary;
+    private Diary crisisDiary;
+
+    @Setup
+    public void setUp() {
+        SafetyDictionaryService dictionaryService =
+                new SafetyDictionaryService(noOp(SafetyKeywordRepository.class));
+        safetyCheckService = new SafetyCheckService(noOp(SafetyEventRepository.class), dictionaryService);
+
+        String content = KoreanDiaryCorpus.generate(contentLength, 42L);
+        safeDiary = diary(content);
+        crisisDiary = diary(content + KoreanDiaryCorpus.CRISIS_SENTENCE);
+    }
+
+    @Benchmark
+    public boolean safeContent() {
+        return safetyCheckService.check(safeDiary);
+    }
+
+    @Benchmark
+    public boolean crisisAtEnd() {
+        return safetyCheckService.check(crisisDiary);
+    }
+
+    private static Diary diary(String content) {
+        return Diary.builder()
+                .title("벤치마크")
+                .content(content)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "NoOp" + type.getSimpleName();
+                    default -> null;
+                });
+    }
+}
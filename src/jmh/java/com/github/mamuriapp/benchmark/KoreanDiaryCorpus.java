@@ -0,0 +1,56 @@
+package com.github.mamuriapp.benchmark;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 한국어 일기 본문 생성기.
+ * 실제 일기와 비슷한 문장 조각을 고정 시드로 이어 붙이므로 실행마다 같은 본문이 만들어진다.
+ */
+public final class KoreanDiaryCorpus {
+
+    private static final String[] SENTENCES = {
+            "오늘은 아침 일찍 일어나서 동네 공원을 한 바퀴 걸었다. ",
+            "점심에는 회사 동료들과 김치찌개를 먹으면서 주말 계획을 이야기했다. ",
+            "오후 회의가 길어져서 조금 지쳤지만 그래도 끝까지 집중하려고 노력했다. ",
+            "퇴근길 지하철에서 좋아하는 노래를 들으니 마음이 한결 가벼워졌다. ",
+            "요즘 잠을 제대로 못 자서 그런지 하루 종일 머리가 멍했다. ",
+            "엄마와 오랜만에 통화를 했는데 목소리를 들으니 괜히 눈물이 날 것 같았다. ",
+            "친구가 보내준 사진을 보면서 작년 여름 바다 여행이 생각났다. ",
+            "저녁으로 간단하게 샐러드를 만들어 먹고 책을 몇 장 읽었다. ",
+            "내일은 중요한 발표가 있어서 조금 긴장되지만 준비한 만큼은 해낼 수 있을 것 같다. ",
+            "비가 와서 우산을 챙겼는데 막상 나가 보니 그쳐 있어서 조금 허탈했다. ",
+            "별일 없는 하루였지만 이렇게 기록해 두니 나름 의미가 있는 것 같다. ",
+            "가끔은 아무것도 하지 않고 쉬는 시간이 필요하다는 생각이 든다. "
+    };
+
+    /** 본문 끝에 덧붙여 위기 키워드 검출 경로를 측정할 때 쓰는 문장 */
+    public static final String CRISIS_SENTENCE = "요즘은 정말 죽고 싶다는 생각이 자꾸 든다. ";
+
+    private KoreanDiaryCorpus() {
+    }
+
+    /**
+     * 본문 생성에 쓰는 문장 목록.
+     *
+     * @return 문장 목록 (복사본)
+     */
+    public static String[] sentences() {
+        return SENTENCES.clone();
+    }
+
+    /**
+     * 지정한 길이 이상의 일기 본문을 생성한다.
+     *
+     * @param minChars 최소 글자 수
+     * @param seed     문장 선택 시드
+     * @return 일기 본문
+     */
+    public static String generate(int minChars, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(minChars + 64);
+        while (builder.length() < minChars) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.benchmark.KoreanDiaryCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 검색 벤치마크 (PostgreSQL 필요).
+ * 합성 일기 100만 건 테이블에서 트라이그램 GIN 인덱스 검색과 인덱스 없는 ILIKE 검색의 지연을 비교한다.
+ * 테이블은 사용자 1명이 20만 건, 나머지 800명이 1000건씩 가지며,
+ * 본문은 {@link KoreanDiaryCorpus} 문장 5개와 0.5% 확률의 드문 문장으로 만든다.
+ * 한 번 만든 테이블은 다음 실행에서 재사용한다.
+ *
+ * <p>접속 정보는 BENCH_DB_URL, BENCH_DB_USER, BENCH_DB_PASSWORD 환경 변수로 바꿀 수 있다 (기본값: 개발용 DB).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiarySearchBenchmark {
+
+    private static final String TABLE = "bench_diary_search";
+    private static final int ROWS = 1_000_000;
+    private static final int HEAVY_USER_ROWS = 200_000;
+    private static final int LIGHT_USERS = 800;
+    private static final String RARE_SENTENCE = "벚꽃 축제에 가서 솜사탕을 사 먹었다. ";
+
+    /** 1 = 일기 20만 건인 사용자, 2 = 1000건인 사용자 */
+    @Param({"1", "2"})
+    public long userId;
+
+    /** 흔한 단어, 드문 구절, 없는 단어, 두 글자 단어 */
+    @Param({"공원을", "솜사탕", "우주여행", "바다"})
+    public String query;
+
+    private Connection connection;
+    private PreparedStatement indexed;
+    private PreparedStatement naive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCH_DB_URL", "jdbc:postgresql://localhost:5433/mamuri"),
+                env("BENCH_DB_USER", "mamuri"),
+                env("BENCH_DB_PASSWORD", "mamuri"));
+        prepareTable();
+
+        // 서비스와 같은 필터·정렬 (인덱스 표현식과 같은 title || ' ' || content)
+        indexed = connection.prepareStatement("SELECT id, word_similarity(?, title || ' ' || content) AS rank "
+                + "FROM " + TABLE + " WHERE user_id = ? AND (title || ' ' || content) ILIKE ? "
+                + "ORDER BY rank DESC, id DESC LIMIT 21");
+        // 인덱스 표현식과 다른 컬럼별 ILIKE: user_id 인덱스로 사용자 행을 모두 읽고 걸러낸다
+        naive = connection.prepareStatement("SELECT id, word_similarity(?, title || ' ' || content) AS rank "
+                + "FROM " + TABLE + " WHERE user_id = ? AND (title ILIKE ? OR content ILIKE ?) "
+                + "ORDER BY rank DESC, id DESC LIMIT 21");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int trigramIndex() throws SQLException {
+        indexed.setString(1, query);
+        indexed.setLong(2, userId);
+        indexed.setString(3, "%" + query + "%");
+        return count(indexed);
+    }
+
+    @Benchmark
+    public int naiveIlike() throws SQLException {
+        naive.setString(1, query);
+        naive.setLong(2, userId);
+        naive.setString(3, "%" + query + "%");
+        naive.setString(4, "%" + query + "%");
+        return count(naive);
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void prepareTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("CREATE EXTENSION IF NOT EXISTS btree_gin");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                    + "id BIGSERIAL PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "title VARCHAR(100) NOT NULL, content TEXT NOT NULL)");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                resultSet.next();
+                if (resultSet.getLong(1) == ROWS) {
+                    return;
+                }
+            }
+
+            statement.execute("TRUNCATE " + TABLE);
+            statement.execute("SELECT setseed(0.42)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                    + " (user_id, title, content) "
+                    + "SELECT CASE WHEN g <= ? THEN 1 ELSE 2 + (g % ?) END, "
+                    + "'일기 ' || g, "
+                    + "(SELECT string_agg(s[1 + floor(random() * cardinality(s))::int], '') "
+                    + " FROM generate_series(1, 5) WHERE g > 0) "
+                    + "|| CASE WHEN random() < 0.005 THEN ? ELSE '' END "
+                    + "FROM generate_series(1, ?) g, (SELECT ?::text[] AS s) sentences")) {
+                insert.setInt(1, HEAVY_USER_ROWS);
+                insert.setInt(2, LIGHT_USERS);
+                insert.setString(3, RARE_SENTENCE);
+                insert.setInt(4, ROWS);
+                insert.setArray(5, connection.createArrayOf("text", KoreanDiaryCorpus.sentences()));
+                insert.executeUpdate();
+            }
+
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_diary_search_user ON " + TABLE + " (user_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_diary_search_trgm ON " + TABLE
+                    + " USING gin (user_id, (title || ' ' || content) gin_trgm_ops)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
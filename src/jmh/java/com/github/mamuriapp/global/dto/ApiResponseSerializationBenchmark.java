@@ -0,0 +1,67 @@
+package com.github.mamuriapp.global.dto;
+
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.entity.AiCommentStatus;
+import com.github.mamuriapp.benchmark.KoreanDiaryCorpus;
+import com.github.mamuriapp.diary.dto.DiaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 목록 응답({@code ApiResponse<List<DiaryResponse>>})의 Jackson 직렬화 벤치마크.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "50"})
+    public int diaryCount;
+
+    @Param({"1000"})
+    public int contentLength;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<DiaryResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 31, 21, 30);
+        List<DiaryResponse> diaries = new ArrayList<>(diaryCount);
+        for (int i = 0; i < diaryCount; i++) {
+            AiCommentResponse aiComment = new AiCommentResponse(
+                    (long) i, KoreanDiaryCorpus.generate(200, i + 1000L),
+                    AiCommentStatus.COMPLETED, now.minusDays(i));
+            diaries.add(new DiaryResponse(
+                    (long) i,
+                    "일기 " + i,
+                    KoreanDiaryCorpus.generate(contentLength, i),
+                    LocalDate.of(2026, 1, 31).minusDays(i),
+                    aiComment,
+                    now.minusDays(i),
+                    now.minusDays(i)));
+        }
+        response = ApiResponse.success(diaries);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
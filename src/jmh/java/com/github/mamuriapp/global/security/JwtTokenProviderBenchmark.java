@@ -0,0 +1,52 @@
+package com.github.mamuriapp.global.security;
+
+import com.github.mamuriapp.global.config.JwtConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtTokenProvider}의 토큰 발급·검증 벤치마크.
+ * authCache가 true이면 검증된 토큰 캐시를 켠 상태에서 같은 토큰을 반복 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean authCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("benchmark-secret-key-must-be-at-least-256-bits-long");
+        jwtConfig.setAccessExpiration(1_800_000L);
+        jwtConfig.setRefreshExpiration(604_800_000L);
+        jwtConfig.setAuthCacheEnabled(authCache);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtConfig);
+        jwtTokenProvider.init();
+        accessToken = jwtTokenProvider.createAccessToken(1L, "bench@mamuri.app");
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L, "bench@mamuri.app");
+    }
+
+    @Benchmark
+    public JwtPrincipal authenticate() {
+        return jwtTokenProvider.authenticate(accessToken);
+    }
+}
@@ -17,9 +17,20 @@ public class AiProperties {
     private String provider = "stub";
     private String promptVersion = "v1";
     private int maxOutputTokens = 180;
-    private int maxInputChars = 3000;
 
     private Api api = new Api();
+    private Async async = new Async();
+    private Streaming streaming = new Streaming();
+    private Stub stub = new Stub();
+    private Safety safety = new Safety();
+    private ResponseCache responseCache = new ResponseCache();
+    private Retry retry = new Retry();
+    private Resilience resilience = new Resilience();
+    private RateLimit rateLimit = new RateLimit();
+    private Prompt prompt = new Prompt();
+    private Tokens tokens = new Tokens();
+    private Usage usage = new Usage();
+    private Simulation simulation = new Simulation();
 
     @Getter
     @Setter
@@ -27,5 +38,253 @@ public class AiProperties {
         private String url = "https://api.openai.com/v1";
         private String key = "";
         private String model = "gpt-4o-mini";
+        /** HTTP 버전 (HTTP_2 또는 HTTP_1_1). HTTP_2는 협상에 실패하면 HTTP/1.1로 동작한다 */
+        private String httpVersion = "HTTP_2";
+        /** HTTP 클라이언트 스레드 수 */
+        private int clientThreads = 4;
+    }
+
+    /**
+     * 비동기 AI 코멘트 생성 설정.
+     * enabled=true이면 일기 저장 시 작업만 기록하고 워커가 커밋 이후에 코멘트를 생성한다.
+     * 일괄 쓰기는 이 값과 무관하게 항상 작업으로 등록하며, 워커 설정은 두 경우에 모두 쓰인다.
+     */
+    @Getter
+    @Setter
+    public static class Async {
+        private boolean enabled = false;
+        /** 동시에 LLM을 호출하는 워커 수 */
+        private int workerThreads = 4;
+        /** 작업 테이블 폴링 간격 (밀리초) */
+        private long pollIntervalMs = 500;
+        /** 작업당 최대 시도 횟수 */
+        private int maxAttempts = 3;
+        /** 실패한 작업의 첫 재시도 간격 (밀리초, 시도마다 두 배) */
+        private long retryBackoffMs = 5_000;
+        /** 재시도 간격 상한 (밀리초) */
+        private long maxRetryBackoffMs = 300_000;
+        /** 처리 중 상태로 이 시간(초) 이상 머문 작업은 다시 가져간다 */
+        private long staleAfterSeconds = 120;
+    }
+
+    /**
+     * SSE 스트리밍 설정.
+     */
+    @Getter
+    @Setter
+    public static class Streaming {
+        /** 동시에 진행할 수 있는 스트리밍 생성 수 */
+        private int maxConcurrent = 16;
+        /** SSE 연결 타임아웃 (밀리초) */
+        private long timeoutMs = 60_000;
+    }
+
+    /**
+     * 로컬 스텁 프로바이더 설정 (오프라인 스트리밍 테스트용).
+     */
+    @Getter
+    @Setter
+    public static class Stub {
+        /** 첫 조각 전송 전 지연 (밀리초) */
+        private long firstChunkDelayMs = 0;
+        /** 조각 사이 지연 (밀리초) */
+        private long chunkDelayMs = 0;
+    }
+
+    /**
+     * 안전 사전 설정.
+     */
+    @Getter
+    @Setter
+    public static class Safety {
+        /** DB 사전 버전 확인 주기 (밀리초) */
+        private long refreshIntervalMs = 60_000;
+    }
+
+    /**
+     * LLM 응답 캐시 설정.
+     * 렌더링된 프롬프트, 모델, 최대 토큰이 바이트 단위로 같은 호출만 캐시된 응답을 공유한다.
+     */
+    @Getter
+    @Setter
+    public static class ResponseCache {
+        private boolean enabled = false;
+        /** 최대 캐시 항목 수 */
+        private long maxEntries = 10_000;
+        /** 항목 유지 시간 (초) */
+        private long ttlSeconds = 86_400;
+    }
+
+    /**
+     * AI 코멘트 재시도 설정.
+     */
+    @Getter
+    @Setter
+    public static class Retry {
+        /** 재시도 완료 후 이 시간(초) 동안은 새로 생성하지 않고 직전 결과를 반환한다 */
+        private long cooldownSeconds = 30;
+    }
+
+    /**
+     * LLM 호출 보호 설정 (타임아웃, 벌크헤드, 서킷 브레이커).
+     * 상위 API가 느려지거나 실패해도 요청 스레드가 묶이지 않도록 빠르게 대체 응답으로 전환한다.
+     */
+    @Getter
+    @Setter
+    public static class Resilience {
+        private boolean enabled = true;
+        /** 연결 타임아웃 (밀리초) */
+        private long connectTimeoutMs = 3_000;
+        /** 응답 대기 타임아웃 (밀리초) */
+        private long readTimeoutMs = 20_000;
+        /** 호출 전체 마감 시간 (밀리초) */
+        private long callTimeoutMs = 30_000;
+        /** 동시에 진행할 수 있는 호출 수 */
+        private int maxConcurrentCalls = 16;
+        /** 벌크헤드가 가득 찼을 때 대기할 시간 (밀리초, 0이면 즉시 대체) */
+        private long maxWaitMs = 0;
+        /** 서킷을 여는 실패율 (%) */
+        private int failureRateThreshold = 50;
+        /** 서킷을 여는 느린 호출 비율 (%) */
+        private int slowCallRateThreshold = 80;
+        /** 느린 호출로 판단하는 기준 (밀리초) */
+        private long slowCallDurationMs = 10_000;
+        /** 실패율을 계산할 최근 호출 수 */
+        private int slidingWindowSize = 20;
+        /** 실패율을 계산하기 위한 최소 호출 수 */
+        private int minimumCalls = 10;
+        /** 서킷이 열린 상태를 유지하는 시간 (밀리초) */
+        private long openDurationMs = 30_000;
+        /** 반열림 상태에서 허용할 시험 호출 수 */
+        private int halfOpenCalls = 3;
+        /** 실패 시 스텁 문구로 대체할지 여부 (false면 AI_SERVICE_ERROR) */
+        private boolean fallbackEnabled = true;
+    }
+
+    /**
+     * LLM 호출 한도 설정.
+     * 한도를 넘어도 일기 저장은 실패하지 않으며, 코멘트만 미루거나 스텁으로 대체한다.
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        /** 사용자당 분당 LLM 호출 수 */
+        private long userCallsPerMinute = 6;
+        /** 사용자당 연속 허용 호출 수 */
+        private long userBurst = 3;
+        /** 전체 분당 공급자 토큰 수 */
+        private long globalTokensPerMinute = 200_000;
+        /** 한도 초과 시 처리. DEFER는 비동기 워커가 있을 때만 가능하며, 없으면 STUB으로 동작한다 */
+        private LimitAction onLimit = LimitAction.DEFER;
+        /** DEFER로 미룬 작업을 다시 가져가기까지의 지연 (밀리초) */
+        private long deferDelayMs = 10_000;
+
+        public enum LimitAction {
+            /** 작업을 대기 상태로 두고 한도가 회복되면 생성한다 */
+            DEFER,
+            /** 스텁 문구를 코멘트로 저장한다 */
+            STUB
+        }
+    }
+
+    /**
+     * 프롬프트 템플릿 설정.
+     */
+    @Getter
+    @Setter
+    public static class Prompt {
+        /** 클래스패스 템플릿을 덮어쓸 템플릿 디렉터리 (비어 있으면 클래스패스만 사용) */
+        private String directory = "";
+        /** 템플릿 디렉터리 변경 확인 주기 (밀리초) */
+        private long reloadIntervalMs = 5_000;
+    }
+
+    /**
+     * 입력 토큰 예산 설정.
+     * 일기 본문 예산은 min(maxInputTokens, contextLimit - 템플릿 토큰 - maxOutputTokens)이다.
+     */
+    @Getter
+    @Setter
+    public static class Tokens {
+        /** 토큰 추정에 사용할 인코딩 (o200k_base, cl100k_base 등) */
+        private String encoding = "o200k_base";
+        /** 모델 컨텍스트 한도 (토큰) */
+        private int contextLimit = 128_000;
+        /** 일기 본문에 사용할 최대 입력 토큰 (비용 상한) */
+        private int maxInputTokens = 2_000;
+    }
+
+    /**
+     * LLM 사용량 집계 설정.
+     * 호출별 사용량을 메모리에서 (날짜, 사용자, 공급자, 모델, 프롬프트 버전)별로 합산해 두었다가
+     * 주기적으로 llm_usage 테이블에 한 번의 배치로 반영한다.
+     */
+    @Getter
+    @Setter
+    public static class Usage {
+        private boolean enabled = true;
+        /** 합산된 사용량을 DB에 반영하는 주기 (밀리초) */
+        private long flushIntervalMs = 10_000;
+    }
+
+    /**
+     * 부하 테스트용 시뮬레이션 설정.
+     * ai.provider=simulated이면 공급자가, simulation.server.enabled=true이면 OpenAI 형식의 로컬 HTTP 서버가
+     * 이 설정으로 지연, 오류, 타임아웃, 토큰 스트리밍을 흉내 낸다.
+     * 호출 시간은 첫 토큰까지의 지연(분포에서 추출)과 토큰 생성 시간(출력 토큰 수 / tokensPerSecond)의 합이다.
+     */
+    @Getter
+    @Setter
+    public static class Simulation {
+        /** 첫 토큰 지연 분포 */
+        private LatencyDistribution latency = LatencyDistribution.LOG_NORMAL;
+        /** FIXED 분포의 지연 (밀리초) */
+        private long fixedMs = 800;
+        /** UNIFORM 분포의 최소 지연 (밀리초) */
+        private long minMs = 300;
+        /** UNIFORM 분포의 최대 지연 (밀리초) */
+        private long maxMs = 1_500;
+        /** LOG_NORMAL 분포의 중앙값 (밀리초) */
+        private long p50Ms = 700;
+        /** LOG_NORMAL 분포의 99분위 (밀리초) */
+        private long p99Ms = 4_000;
+        /** 초당 생성 토큰 수 (0이면 토큰 생성 시간 없음) */
+        private double tokensPerSecond = 60;
+        /** maxTokens 대비 평균 출력 길이 비율 (±20% 변동, maxTokens를 넘으면 length로 잘림) */
+        private double outputRatio = 0.6;
+        /** 오류 응답 비율 (0~1) */
+        private double errorRate = 0;
+        /** 응답하지 않고 멈추는 비율 (0~1) */
+        private double timeoutRate = 0;
+        /** 타임아웃 주입 시 멈춰 있는 시간 (밀리초) */
+        private long timeoutMs = 60_000;
+        /** 난수 시드 (0이면 매번 다른 결과) */
+        private long seed = 0;
+        private Server server = new Server();
+
+        public enum LatencyDistribution {
+            /** 항상 fixedMs */
+            FIXED,
+            /** minMs~maxMs 균등 분포 */
+            UNIFORM,
+            /** p50Ms, p99Ms를 만족하는 로그 정규 분포 */
+            LOG_NORMAL
+        }
+
+        /**
+         * OpenAI Chat Completions 형식의 로컬 HTTP 서버 설정.
+         * ai.provider=openai, ai.api.url=http://127.0.0.1:{port}/v1로 두면
+         * 네트워크 없이 OpenAiProvider 자체를 부하 테스트할 수 있다.
+         */
+        @Getter
+        @Setter
+        public static class Server {
+            private boolean enabled = false;
+            private String host = "127.0.0.1";
+            private int port = 18_089;
+            /** 요청 처리 스레드 수 */
+            private int threads = 64;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.github.mamuriapp.ai.config;
+
+import com.github.mamuriapp.ai.provider.CachingLlmProvider;
+import com.github.mamuriapp.ai.provider.LlmProvider;
+import com.github.mamuriapp.ai.provider.LocalStubProvider;
+import com.github.mamuriapp.ai.provider.OpenAiProvider;
+import com.github.mamuriapp.ai.provider.ResilientLlmProvider;
+import com.github.mamuriapp.ai.provider.SimulatedLlmProvider;
+import com.github.mamuriapp.global.config.ThreadingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 서비스에 주입할 LLM 공급자를 구성한다.
+ * ai.provider로 선택된 실제 공급자 위에 설정에 따라 데코레이터를 씌운다.
+ * 순서는 캐시 → 보호(타임아웃·벌크헤드·서킷) → 실제 공급자이며,
+ * 캐시 히트는 보호 계층을 거치지 않고 대체 응답은 캐시되지 않는다.
+ */
+@Slf4j
+@Configuration
+public class LlmProviderConfig {
+
+    /**
+     * 서비스가 사용하는 LLM 공급자 빈.
+     *
+     * @param openAiProvider    OpenAI 공급자 (ai.provider=openai일 때만 존재)
+     * @param simulatedProvider 시뮬레이션 공급자 (ai.provider=simulated일 때만 존재)
+     * @param localStubProvider 로컬 스텁 공급자 (기본값)
+     * @param aiProperties      AI 설정
+     * @param meterRegistry     지표 레지스트리
+     * @param threadingConfig   스레드 실행 방식 설정
+     * @return 데코레이터가 적용된 LLM 공급자
+     */
+    @Bean
+    @Primary
+    public LlmProvider llmProvider(ObjectProvider<OpenAiProvider> openAiProvider,
+                                   ObjectProvider<SimulatedLlmProvider> simulatedProvider,
+                                   ObjectProvider<LocalStubProvider> localStubProvider,
+                                   AiProperties aiProperties,
+                                   MeterRegistry meterRegistry,
+                                   ThreadingConfig threadingConfig) {
+        LlmProvider provider = openAiProvider.getIfAvailable(
+                () -> simulatedProvider.getIfAvailable(localStubProvider::getObject));
+
+        AiProperties.Resilience resilience = aiProperties.getResilience();
+        if (resilience.isEnabled()) {
+            provider = new ResilientLlmProvider(provider,
+                    new LocalStubProvider(aiProperties), resilience, meterRegistry,
+                    threadingConfig.newUnboundedExecutor("llm-call-"));
+        }
+
+        AiProperties.ResponseCache responseCache = aiProperties.getResponseCache();
+        if (responseCache.isEnabled()) {
+            String model = aiProperties.getProvider() + ":" + aiProperties.getApi().getModel();
+            provider = new CachingLlmProvider(provider, model,
+                    responseCache.getMaxEntries(),
+                    Duration.ofSeconds(responseCache.getTtlSeconds()),
+                    meterRegistry);
+            log.info("LLM 응답 캐시 활성화 (maxEntries={}, ttlSeconds={})",
+                    responseCache.getMaxEntries(), responseCache.getTtlSeconds());
+        }
+        return provider;
+    }
+}
@@ -1,39 +1,98 @@
 package com.github.mamuriapp.ai.controller;
 
 import com.github.mamuriapp.ai.dto.AiCommentResponse;
-import com.github.mamuriapp.ai.service.AiCommentService;
+import com.github.mamuriapp.ai.service.AiCommentJobService;
+import com.github.mamuriapp.ai.service.AiCommentRetryService;
+import com.github.mamuriapp.ai.service.AiCommentStreamService;
 import com.github.mamuriapp.diary.entity.Diary;
 import com.github.mamuriapp.diary.repository.DiaryRepository;
 import com.github.mamuriapp.global.dto.ApiResponse;
 import com.github.mamuriapp.global.exception.CustomException;
 import com.github.mamuriapp.global.exception.ErrorCode;
+import com.github.mamuriapp.global.idempotency.IdempotencyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * AI 컨트롤러.
- * AI 코멘트 재시도 엔드포인트를 제공한다.
+ * AI 코멘트 상태 조회, 재시도, 스트리밍 엔드포인트를 제공한다.
  */
 @RestController
 @RequestMapping("/api/diaries/{diaryId}/ai-comment")
 @RequiredArgsConstructor
 public class AiController {
 
-    private final AiCommentService aiCommentService;
+    private final AiCommentJobService aiCommentJobService;
+    private final AiCommentRetryService aiCommentRetryService;
+    private final AiCommentStreamService aiCommentStreamService;
     private final DiaryRepository diaryRepository;
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * AI 코멘트 생성 상태를 조회한다.
+     * 비동기 모드에서 클라이언트가 PENDING 이후 완료 여부를 폴링할 때 사용한다.
+     *
+     * @param authentication 인증 정보
+     * @param diaryId        일기 ID
+     * @return 완료 시 AI 코멘트, 아니면 생성 상태
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<AiCommentResponse>> getComment(
+            Authentication authentication,
+            @PathVariable Long diaryId) {
+        Long userId = (Long) authentication.getPrincipal();
+
+        if (!diaryRepository.existsByIdAndUserId(diaryId, userId)) {
+            throw new CustomException(ErrorCode.DIARY_NOT_FOUND);
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(aiCommentJobService.getStatus(diaryId)));
+    }
 
     /**
      * AI 코멘트를 재생성한다 (재시도).
      * AI 코멘트 생성에 실패했거나 다시 생성하고 싶을 때 사용한다.
+     * 같은 일기에 대한 동시 요청은 하나의 생성 결과를 공유하고,
+     * 재생성 직후 쿨다운 동안에는 직전 결과를 그대로 반환한다.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재전송에 LLM을 다시 호출하지 않고 처음 결과를 반환한다.
      *
      * @param authentication 인증 정보
+     * @param idempotencyKey 멱등 키 (선택)
      * @param diaryId        일기 ID
      * @return 재생성된 AI 코멘트 응답
      */
     @PostMapping("/retry")
     public ResponseEntity<ApiResponse<AiCommentResponse>> retryComment(
+            Authentication authentication,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long diaryId) {
+        Long userId = (Long) authentication.getPrincipal();
+
+        AiCommentResponse response = idempotencyService.execute(userId, "ai.retry", idempotencyKey,
+                diaryId, AiCommentResponse.class, () -> {
+                    Diary diary = diaryRepository.findByIdAndUserId(diaryId, userId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
+                    return aiCommentRetryService.retry(diary);
+                });
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * AI 코멘트를 SSE로 스트리밍 생성한다.
+     * 생성되는 텍스트 조각은 token 이벤트로, 저장된 최종 코멘트는 done 이벤트로 전송된다.
+     * 호출마다 LLM을 부르고 기존 코멘트를 덮어쓰므로 POST로만 받는다.
+     * GET이면 EventSource 자동 재연결이나 프록시·프리페치가 재생성을 되풀이하게 된다.
+     *
+     * @param authentication 인증 정보
+     * @param diaryId        일기 ID
+     * @return SSE emitter
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComment(
             Authentication authentication,
             @PathVariable Long diaryId) {
         Long userId = (Long) authentication.getPrincipal();
@@ -41,7 +100,6 @@ public class AiController {
         Diary diary = diaryRepository.findByIdAndUserId(diaryId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
 
-        AiCommentResponse response = aiCommentService.retryComment(diaryId, diary);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return aiCommentStreamService.stream(diary);
     }
 }
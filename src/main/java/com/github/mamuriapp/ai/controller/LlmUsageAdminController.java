@@ -0,0 +1,72 @@
+package com.github.mamuriapp.ai.controller;
+
+import com.github.mamuriapp.ai.dto.LlmUsageDailyResponse;
+import com.github.mamuriapp.ai.dto.LlmUsageUserResponse;
+import com.github.mamuriapp.ai.service.LlmUsageService;
+import com.github.mamuriapp.global.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * LLM 사용량 관리자 컨트롤러.
+ * 비용 계획과 지연 회귀 확인을 위한 일자·모델·사용자별 집계를 제공한다.
+ * 최근 집계 주기 이내의 호출은 아직 반영되지 않았을 수 있다.
+ */
+@RestController
+@RequestMapping("/api/admin/llm-usage")
+@RequiredArgsConstructor
+public class LlmUsageAdminController {
+
+    private final LlmUsageService llmUsageService;
+
+    /**
+     * 전체 사용자의 일자·공급자·모델·프롬프트 버전별 사용량을 조회한다.
+     *
+     * @param from 시작일 (선택, 기본 최근 7일)
+     * @param to   종료일 (선택, 기본 오늘)
+     * @return 일자별 사용량
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LlmUsageDailyResponse>>> getDaily(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(llmUsageService.getDaily(null, from, to)));
+    }
+
+    /**
+     * 토큰 사용량 상위 사용자를 조회한다.
+     *
+     * @param from  시작일 (선택, 기본 최근 7일)
+     * @param to    종료일 (선택, 기본 오늘)
+     * @param limit 최대 사용자 수 (선택, 기본 20, 최대 100)
+     * @return 사용자별 사용량
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<List<LlmUsageUserResponse>>> getTopUsers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(llmUsageService.getTopUsers(from, to, limit)));
+    }
+
+    /**
+     * 한 사용자의 일자·공급자·모델·프롬프트 버전별 사용량을 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param from   시작일 (선택, 기본 최근 7일)
+     * @param to     종료일 (선택, 기본 오늘)
+     * @return 일자별 사용량
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<List<LlmUsageDailyResponse>>> getUserDaily(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(llmUsageService.getDaily(userId, from, to)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.mamuriapp.ai.controller;
+
+import com.github.mamuriapp.ai.dto.SafetyDictionaryResponse;
+import com.github.mamuriapp.ai.service.SafetyDictionaryService;
+import com.github.mamuriapp.global.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 안전 사전 관리자 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/admin/safety-dictionary")
+@RequiredArgsConstructor
+public class SafetyAdminController {
+
+    private final SafetyDictionaryService safetyDictionaryService;
+
+    /**
+     * 현재 적용 중인 사전 정보를 조회한다.
+     *
+     * @return 사전 버전과 키워드 수
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<SafetyDictionaryResponse>> getDictionary() {
+        return ResponseEntity.ok(ApiResponse.success(
+                SafetyDictionaryResponse.from(safetyDictionaryService.current())));
+    }
+
+    /**
+     * 사전 재컴파일을 요청한다.
+     * 재컴파일은 백그라운드에서 수행되며, 응답에는 요청 시점의 사전 정보가 담긴다.
+     *
+     * @return 요청 시점의 사전 정보
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<SafetyDictionaryResponse>> reload() {
+        safetyDictionaryService.requestReload();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(
+                SafetyDictionaryResponse.from(safetyDictionaryService.current())));
+    }
+}
@@ -1,20 +1,28 @@
 package com.github.mamuriapp.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.mamuriapp.ai.entity.AiComment;
+import com.github.mamuriapp.ai.entity.AiCommentStatus;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 /**
  * AI 코멘트 응답 DTO.
+ * 비동기 생성 중에는 status만 채워진다.
  */
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AiCommentResponse {
 
     private Long id;
     private String content;
+    private AiCommentStatus status;
     private LocalDateTime createdAt;
 
     /**
@@ -27,7 +35,29 @@ public class AiCommentResponse {
         return new AiCommentResponse(
                 entity.getId(),
                 entity.getContent(),
+                AiCommentStatus.COMPLETED,
                 entity.getCreatedAt()
         );
     }
+
+    /**
+     * 아직 코멘트가 없는 상태 응답을 생성한다.
+     *
+     * @param status 생성 상태 (PENDING, PROCESSING, FAILED)
+     * @return AiCommentResponse
+     */
+    public static AiCommentResponse ofStatus(AiCommentStatus status) {
+        return new AiCommentResponse(null, null, status, null);
+    }
+
+    /**
+     * 저장하지 않은 대체 문구 응답을 생성한다.
+     * LLM 장애 시 사용자에게 문구는 보여 주되, 재시도로 다시 생성하도록 FAILED 상태로 알린다.
+     *
+     * @param content 대체 문구
+     * @return AiCommentResponse
+     */
+    public static AiCommentResponse unsaved(String content) {
+        return new AiCommentResponse(null, content, AiCommentStatus.FAILED, null);
+    }
 }
@@ -0,0 +1,30 @@
+package com.github.mamuriapp.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일자·공급자·모델·프롬프트 버전별 LLM 사용량 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class LlmUsageDailyResponse {
+
+    private LocalDate date;
+    private String provider;
+    private String model;
+    private String promptVersion;
+    private long calls;
+    private long promptTokens;
+    private long completionTokens;
+
+    /**
+     * 최대 출력 토큰에 도달해 잘린 호출 수.
+     */
+    private long truncatedCalls;
+
+    private long avgLatencyMs;
+    private long maxLatencyMs;
+}
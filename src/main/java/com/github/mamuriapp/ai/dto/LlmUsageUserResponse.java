@@ -0,0 +1,25 @@
+package com.github.mamuriapp.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자별 LLM 사용량 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class LlmUsageUserResponse {
+
+    private Long userId;
+    private long calls;
+    private long promptTokens;
+    private long completionTokens;
+
+    /**
+     * 최대 출력 토큰에 도달해 잘린 호출 수.
+     */
+    private long truncatedCalls;
+
+    private long avgLatencyMs;
+    private long maxLatencyMs;
+}
@@ -0,0 +1,20 @@
+package com.github.mamuriapp.ai.dto;
+
+import com.github.mamuriapp.ai.safety.SafetyDictionary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 안전 사전 정보 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class SafetyDictionaryResponse {
+
+    private long version;
+    private int keywordCount;
+
+    public static SafetyDictionaryResponse from(SafetyDictionary dictionary) {
+        return new SafetyDictionaryResponse(dictionary.version(), dictionary.size());
+    }
+}
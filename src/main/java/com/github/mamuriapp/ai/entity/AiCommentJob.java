@@ -0,0 +1,137 @@
+package com.github.mamuriapp.ai.entity;
+
+import com.github.mamuriapp.diary.entity.Diary;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AI 코멘트 생성 작업 엔티티.
+ * 비동기 모드에서 일기 저장과 같은 트랜잭션으로 기록되어, 워커가 커밋 이후에 처리한다.
+ */
+@Entity
+@Table(name = "ai_comment_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiCommentJob {
+
+    /** 오류 메시지 최대 저장 길이 */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /** 일괄 등록 시 INSERT가 배치로 묶이도록 시퀀스를 50개 단위로 받아 쓴다 (V8 마이그레이션과 일치). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_comment_job_seq")
+    @SequenceGenerator(name = "ai_comment_job_seq", sequenceName = "ai_comment_jobs_id_seq", allocationSize = 50)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diary_id", nullable = false, unique = true)
+    private Diary diary;
+
+    /**
+     * 일기 날짜. 복합 외래 키 (diary_id, diary_date)의 일부로, 일기 파티션을 바로 찾는 데 쓴다.
+     * 일기 날짜가 바뀌면 DB의 ON UPDATE CASCADE가 갱신하므로 애플리케이션에서는 쓰지 않는다.
+     */
+    @Column(name = "diary_date", nullable = false, updatable = false)
+    private LocalDate diaryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AiCommentStatus status;
+
+    /** 처리 시도 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 마지막 실패 사유 */
+    @Column(name = "last_error")
+    private String lastError;
+
+    /** 미룬 작업의 다음 시도 시각 (이 시각 전에는 워커가 가져가지 않음) */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AiCommentJob(Diary diary) {
+        this.diary = diary;
+        this.diaryDate = diary.getDiaryDate();
+        this.status = AiCommentStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    /**
+     * 작업을 다시 대기 상태로 되돌린다 (재요청 시 사용).
+     */
+    public void reset() {
+        this.status = AiCommentStatus.PENDING;
+        this.attempts = 0;
+        this.lastError = null;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * 워커가 작업을 가져갔음을 표시한다.
+     */
+    public void markProcessing() {
+        this.status = AiCommentStatus.PROCESSING;
+        this.attempts++;
+    }
+
+    /**
+     * 호출 한도 초과로 작업을 미룬다. 시도 횟수로 세지 않고 다시 대기 상태로 되돌린다.
+     *
+     * @param nextAttemptAt 다음 시도 시각
+     */
+    public void defer(LocalDateTime nextAttemptAt) {
+        this.status = AiCommentStatus.PENDING;
+        this.attempts = Math.max(0, attempts - 1);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 작업 완료를 표시한다.
+     */
+    public void markCompleted() {
+        this.status = AiCommentStatus.COMPLETED;
+        this.lastError = null;
+    }
+
+    /**
+     * 작업 실패를 기록한다.
+     * 최대 시도 횟수 미만이면 다시 대기 상태로 되돌리되, 다음 시도는 시도 횟수마다 두 배로 늘어나는 간격 뒤로 미룬다.
+     * 최대 시도 횟수에 이르면 실패 상태로 전환한다.
+     *
+     * @param error       실패 사유
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff     첫 재시도 간격
+     * @param maxBackoff  재시도 간격 상한
+     */
+    public void markFailed(String error, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        if (attempts < maxAttempts) {
+            this.status = AiCommentStatus.PENDING;
+            Duration delay = backoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+            this.nextAttemptAt = LocalDateTime.now().plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+        } else {
+            this.status = AiCommentStatus.FAILED;
+        }
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.mamuriapp.ai.entity;
+
+/**
+ * AI 코멘트 생성 상태.
+ */
+public enum AiCommentStatus {
+
+    /** 생성 대기 중 */
+    PENDING,
+
+    /** 워커가 생성 중 */
+    PROCESSING,
+
+    /** 생성 완료 */
+    COMPLETED,
+
+    /** 재시도 횟수 초과로 실패 */
+    FAILED
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -28,6 +29,13 @@ public class SafetyEvent {
     @JoinColumn(name = "diary_id", nullable = false)
     private Diary diary;
 
+    /**
+     * 일기 날짜. 복합 외래 키 (diary_id, diary_date)의 일부로, 일기 파티션을 바로 찾는 데 쓴다.
+     * 일기 날짜가 바뀌면 DB의 ON UPDATE CASCADE가 갱신하므로 애플리케이션에서는 쓰지 않는다.
+     */
+    @Column(name = "diary_date", nullable = false, updatable = false)
+    private LocalDate diaryDate;
+
     /** 감지된 위험 유형 (예: self_harm, crisis) */
     @Column(name = "event_type", nullable = false)
     private String eventType;
@@ -48,6 +56,7 @@ public class SafetyEvent {
     public SafetyEvent(Diary diary, String eventType,
                        Double confidenceScore, String actionTaken) {
         this.diary = diary;
+        this.diaryDate = diary.getDiaryDate();
         this.eventType = eventType;
         this.confidenceScore = confidenceScore;
         this.actionTaken = actionTaken;
@@ -0,0 +1,56 @@
+package com.github.mamuriapp.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 안전 검사 키워드 엔티티.
+ * 위기 신호 사전의 한 항목으로, 감지 시 SafetyEvent의 유형과 신뢰도로 사용된다.
+ */
+@Entity
+@Table(name = "safety_keywords")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SafetyKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String keyword;
+
+    /** 위험 유형 (예: suicide, self_harm) */
+    @Column(nullable = false, length = 100)
+    private String category;
+
+    /** 감지 신뢰도 가중치 (0.0 ~ 1.0) */
+    @Column(nullable = false)
+    private double weight;
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public SafetyKeyword(String keyword, String category, double weight, boolean enabled) {
+        this.keyword = keyword;
+        this.category = category;
+        this.weight = weight;
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.mamuriapp.ai.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿.
+ * 로드 시 {@code {{content}}} 위치를 기준으로 템플릿을 고정 문자열 조각으로 나눠 두므로,
+ * 렌더링은 최종 길이로 미리 잡은 버퍼에 조각과 본문을 번갈아 붙이기만 한다.
+ */
+public final class CompiledPrompt {
+
+    /** 일기 본문이 들어갈 자리 */
+    public static final String CONTENT_PLACEHOLDER = "{{content}}";
+
+    private final String version;
+    private final String tone;
+    private final String[] segments;
+    private final int literalLength;
+
+    private CompiledPrompt(String version, String tone, String[] segments) {
+        this.version = version;
+        this.tone = tone;
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿을 컴파일한다.
+     *
+     * @param version  프롬프트 버전
+     * @param tone     톤 (톤 구분이 없는 기본 템플릿이면 default)
+     * @param template 템플릿 원문
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 본문 자리표시자가 없으면
+     */
+    public static CompiledPrompt compile(String version, String tone, String template) {
+        List<String> segments = new ArrayList<>();
+        int from = 0;
+        int index;
+        while ((index = template.indexOf(CONTENT_PLACEHOLDER, from)) >= 0) {
+            segments.add(template.substring(from, index));
+            from = index + CONTENT_PLACEHOLDER.length();
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "프롬프트 템플릿에 " + CONTENT_PLACEHOLDER + " 자리표시자가 없습니다: " + version + "/" + tone);
+        }
+        segments.add(template.substring(from));
+        return new CompiledPrompt(version, tone, segments.toArray(String[]::new));
+    }
+
+    /**
+     * 일기 본문을 채워 프롬프트 전문을 만든다.
+     *
+     * @param content 일기 본문 (이미 잘린 상태)
+     * @return 프롬프트 전문
+     */
+    public String render(String content) {
+        int placeholders = segments.length - 1;
+        StringBuilder builder = new StringBuilder(literalLength + placeholders * content.length());
+        builder.append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            builder.append(content).append(segments[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 본문을 제외한 템플릿 고정 부분의 길이.
+     *
+     * @return 글자 수
+     */
+    public int literalLength() {
+        return literalLength;
+    }
+
+    /**
+     * 본문을 제외한 템플릿 고정 부분을 이어 붙인 문자열. 템플릿 토큰 수 추정에 사용한다.
+     *
+     * @return 고정 문자열
+     */
+    public String literalText() {
+        return String.join("", segments);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public String tone() {
+        return tone;
+    }
+}
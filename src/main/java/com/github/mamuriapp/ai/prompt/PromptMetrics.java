@@ -0,0 +1,79 @@
+package com.github.mamuriapp.ai.prompt;
+
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프롬프트 버전·톤별 코멘트 생성 지표.
+ * LLM 호출 지연과 출력 토큰 수를 버전/톤 태그로 기록해 템플릿 변경의 영향을 비교할 수 있게 한다.
+ * 응답에 사용량이 있으면 로컬 추정 입력 토큰과 실제 입력 토큰도 함께 기록해 추정기의 정확도를 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PromptMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final TokenEstimator tokenEstimator;
+
+    /**
+     * 코멘트 생성 한 건을 기록한다.
+     *
+     * @param prompt                사용한 템플릿
+     * @param estimatedPromptTokens 로컬에서 추정한 입력 토큰 수
+     * @param latencyNanos          LLM 호출 소요 시간 (나노초)
+     * @param response              LLM 응답
+     */
+    public void record(CompiledPrompt prompt, int estimatedPromptTokens,
+                       long latencyNanos, LlmResponse response) {
+        Timer.builder("ai.comment.latency")
+                .tag("prompt_version", prompt.version())
+                .tag("tone", prompt.tone())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("ai.comment.output.tokens")
+                .tag("prompt_version", prompt.version())
+                .tag("tone", prompt.tone())
+                .register(meterRegistry)
+                .record(outputTokens(response));
+
+        // 캐시 히트는 사용량이 0이므로 정확도 비교에서 제외한다.
+        if (response.promptTokens() > 0) {
+            recordPromptTokens(prompt, estimatedPromptTokens, response.promptTokens());
+        }
+    }
+
+    private void recordPromptTokens(CompiledPrompt prompt, int estimated, int actual) {
+        DistributionSummary.builder("ai.tokens.prompt.estimated")
+                .tag("prompt_version", prompt.version())
+                .register(meterRegistry)
+                .record(estimated);
+        DistributionSummary.builder("ai.tokens.prompt.actual")
+                .tag("prompt_version", prompt.version())
+                .register(meterRegistry)
+                .record(actual);
+        // 1.0이면 정확, 1.0보다 작으면 과소 추정이다. 채팅 형식 오버헤드만큼 약간 작게 나온다.
+        DistributionSummary.builder("ai.tokens.prompt.estimate.ratio")
+                .tag("prompt_version", prompt.version())
+                .register(meterRegistry)
+                .record((double) estimated / actual);
+    }
+
+    /**
+     * 출력 토큰 수. 응답에 사용량이 있으면 그 값을, 없으면 로컬 토크나이저 추정치를 쓴다.
+     */
+    private int outputTokens(LlmResponse response) {
+        if (response.completionTokens() > 0) {
+            return response.completionTokens();
+        }
+        return tokenEstimator.count(response.content());
+    }
+}
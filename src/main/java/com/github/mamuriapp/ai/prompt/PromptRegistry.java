@@ -0,0 +1,173 @@
+package com.github.mamuriapp.ai.prompt;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 프롬프트 템플릿 레지스트리.
+ * {@code prompts/ai_comment_<version>_<tone>.txt}(톤이 없으면 기본 템플릿)를 모두 컴파일해 두고,
+ * 버전과 사용자 톤으로 템플릿을 고른다. 해당 톤이 없으면 warm, 그다음 기본 템플릿을 사용한다.
+ * ai.prompt.directory가 지정되면 그 디렉터리의 같은 이름 파일이 클래스패스 템플릿을 덮어쓰며,
+ * 파일이 바뀌면 재시작 없이 새 스냅샷으로 원자적으로 교체한다.
+ */
+@Slf4j
+@Component
+public class PromptRegistry {
+
+    /** 톤 설정이 없거나 알 수 없을 때 사용하는 톤 */
+    public static final String DEFAULT_TONE = "warm";
+
+    /** 톤 구분이 없는 기본 템플릿의 톤 이름 */
+    public static final String BASE_TONE = "default";
+
+    private static final String CLASSPATH_PATTERN = "classpath*:prompts/ai_comment_*.txt";
+    private static final Pattern FILE_NAME = Pattern.compile("ai_comment_([A-Za-z0-9]+)(?:_([a-z]+))?\\.txt");
+
+    private final AiProperties aiProperties;
+
+    /** 재로드는 파일을 읽으므로 락으로 직렬화한다. */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Map<String, CompiledPrompt> prompts = Map.of();
+    private volatile long directoryFingerprint;
+
+    public PromptRegistry(AiProperties aiProperties) {
+        this.aiProperties = aiProperties;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+        get(aiProperties.getPromptVersion(), DEFAULT_TONE);
+    }
+
+    /**
+     * 버전과 톤에 맞는 템플릿을 반환한다.
+     *
+     * @param version 프롬프트 버전
+     * @param tone    사용자 톤 (null 가능)
+     * @return 컴파일된 템플릿
+     * @throws IllegalStateException 해당 버전의 템플릿이 하나도 없으면
+     */
+    public CompiledPrompt get(String version, String tone) {
+        Map<String, CompiledPrompt> current = prompts;
+        CompiledPrompt prompt = tone != null ? current.get(key(version, tone)) : null;
+        if (prompt == null) {
+            prompt = current.get(key(version, DEFAULT_TONE));
+        }
+        if (prompt == null) {
+            prompt = current.get(key(version, BASE_TONE));
+        }
+        if (prompt == null) {
+            throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: " + version);
+        }
+        return prompt;
+    }
+
+    /**
+     * 템플릿 디렉터리가 바뀌었으면 다시 불러온다.
+     */
+    @Scheduled(fixedDelayString = "${ai.prompt.reload-interval-ms:5000}")
+    public void refreshIfChanged() {
+        Path directory = directory();
+        if (directory == null) {
+            return;
+        }
+        try {
+            if (fingerprint(directory) != directoryFingerprint) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("프롬프트 템플릿 재로드 실패, 기존 템플릿을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 클래스패스와 디렉터리의 템플릿을 모두 컴파일해 교체한다.
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            Map<String, CompiledPrompt> loaded = new HashMap<>();
+            try {
+                for (Resource resource : new PathMatchingResourcePatternResolver().getResources(CLASSPATH_PATTERN)) {
+                    register(loaded, resource.getFilename(), resource.getContentAsString(StandardCharsets.UTF_8));
+                }
+
+                Path directory = directory();
+                long fingerprint = 0;
+                if (directory != null && Files.isDirectory(directory)) {
+                    fingerprint = fingerprint(directory);
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "ai_comment_*.txt")) {
+                        for (Path file : files) {
+                            register(loaded, file.getFileName().toString(),
+                                    Files.readString(file, StandardCharsets.UTF_8));
+                        }
+                    }
+                }
+
+                prompts = Map.copyOf(loaded);
+                directoryFingerprint = fingerprint;
+                log.info("프롬프트 템플릿 로드 완료 (count={}, keys={})", loaded.size(), loaded.keySet());
+            } catch (IOException e) {
+                throw new UncheckedIOException("프롬프트 템플릿을 읽을 수 없습니다.", e);
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void register(Map<String, CompiledPrompt> loaded, String fileName, String template) {
+        Matcher matcher = fileName != null ? FILE_NAME.matcher(fileName) : null;
+        if (matcher == null || !matcher.matches()) {
+            return;
+        }
+        String version = matcher.group(1);
+        String tone = matcher.group(2) != null ? matcher.group(2) : BASE_TONE;
+        try {
+            loaded.put(key(version, tone), CompiledPrompt.compile(version, tone, template));
+        } catch (IllegalArgumentException e) {
+            log.error("프롬프트 템플릿을 건너뜁니다 ({}): {}", fileName, e.getMessage());
+        }
+    }
+
+    private Path directory() {
+        String directory = aiProperties.getPrompt().getDirectory();
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
+    }
+
+    private static long fingerprint(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        long fingerprint = 1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "ai_comment_*.txt")) {
+            for (Path file : files) {
+                fingerprint += 31L * file.getFileName().toString().hashCode()
+                        ^ Files.getLastModifiedTime(file).toMillis()
+                        ^ Files.size(file);
+            }
+        }
+        return fingerprint;
+    }
+
+    private static String key(String version, String tone) {
+        return version + "/" + tone;
+    }
+}
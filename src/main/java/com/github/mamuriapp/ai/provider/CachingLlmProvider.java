@@ -0,0 +1,110 @@
+package com.github.mamuriapp.ai.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 응답 캐시를 적용한 LLM 공급자 데코레이터.
+ * 키는 모델, 최대 토큰, 렌더링된 프롬프트 전문의 SHA-256 해시이므로
+ * 프롬프트가 바이트 단위로 같을 때만 다른 사용자와 응답을 공유한다.
+ * 히트/미스 지표는 {@code cache.gets{cache=llm.response}}로 노출된다.
+ * 캐시 히트는 공급자를 호출하지 않으므로 사용량 0, 조회 시간으로 응답한다.
+ */
+@Slf4j
+public class CachingLlmProvider implements LlmProvider {
+
+    static final String CACHE_NAME = "llm.response";
+
+    private final LlmProvider delegate;
+    private final String model;
+    private final Cache<String, LlmResponse> cache;
+
+    /**
+     * @param delegate   실제 호출을 수행할 공급자
+     * @param model      키에 포함할 공급자/모델 식별자
+     * @param maxEntries 최대 캐시 항목 수
+     * @param ttl        항목 유지 시간
+     * @param registry   지표 레지스트리
+     */
+    public CachingLlmProvider(LlmProvider delegate, String model,
+                              long maxEntries, Duration ttl, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.model = model;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public LlmResponse generate(String prompt, int maxTokens) {
+        long start = System.nanoTime();
+        String key = key(prompt, maxTokens);
+        LlmResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("LLM 응답 캐시 히트 (maxTokens={})", maxTokens);
+            return cached.asCacheHit(elapsedMs(start));
+        }
+        return store(key, delegate.generate(prompt, maxTokens));
+    }
+
+    /**
+     * 캐시 히트이면 저장된 전체 응답을 한 조각으로 전달하고,
+     * 미스이면 실제 스트리밍을 그대로 중계한 뒤 완성된 응답을 저장한다.
+     */
+    @Override
+    public LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        long start = System.nanoTime();
+        String key = key(prompt, maxTokens);
+        LlmResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("LLM 응답 캐시 히트 - 스트리밍 (maxTokens={})", maxTokens);
+            onChunk.accept(cached.content());
+            return cached.asCacheHit(elapsedMs(start));
+        }
+        return store(key, delegate.stream(prompt, maxTokens, onChunk));
+    }
+
+    private LlmResponse store(String key, LlmResponse response) {
+        if (response != null && !response.isFallback()
+                && response.content() != null && !response.content().isBlank()) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    private static long elapsedMs(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private String key(String prompt, int maxTokens) {
+        MessageDigest digest = sha256();
+        digest.update(model.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Integer.toString(maxTokens).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.mamuriapp.ai.provider;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+
+/**
+ * OpenAI Chat Completions 응답을 스트리밍 방식으로 읽는 파서.
+ * 전체 트리나 Map을 만들지 않고 {@code choices[0]}의 message(또는 delta) content, finish_reason과
+ * {@code usage}만 꺼내며, 나머지 값은 토큰 단위로 건너뛴다.
+ */
+final class ChatCompletionParser {
+
+    /**
+     * 파싱 결과.
+     *
+     * @param content          choices[0]의 content (없으면 null)
+     * @param promptTokens     입력 토큰 수 (없으면 -1)
+     * @param completionTokens 출력 토큰 수 (없으면 -1)
+     * @param finishReason     choices[0]의 finish_reason (없으면 null)
+     */
+    record Completion(String content, int promptTokens, int completionTokens, String finishReason) {
+
+        boolean hasUsage() {
+            return promptTokens >= 0 && completionTokens >= 0;
+        }
+    }
+
+    private record Choice(String content, String finishReason) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    ChatCompletionParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 응답 본문 스트림을 파싱한다.
+     *
+     * @param body 응답 본문
+     * @return 파싱 결과
+     */
+    Completion parse(InputStream body) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * 스트리밍 응답의 data 한 줄을 파싱한다.
+     *
+     * @param data SSE data 값 (JSON)
+     * @return 파싱 결과
+     */
+    Completion parseChunk(String data) {
+        try (JsonParser parser = objectMapper.createParser(data)) {
+            return read(parser);
+        }
+    }
+
+    private Completion read(JsonParser parser) {
+        Choice choice = null;
+        int promptTokens = -1;
+        int completionTokens = -1;
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return new Completion(null, -1, -1, null);
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(name) && value == JsonToken.START_ARRAY) {
+                choice = readFirstChoice(parser);
+            } else if ("usage".equals(name) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.VALUE_NUMBER_INT && "prompt_tokens".equals(field)) {
+                        promptTokens = parser.getIntValue();
+                    } else if (token == JsonToken.VALUE_NUMBER_INT && "completion_tokens".equals(field)) {
+                        completionTokens = parser.getIntValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return choice == null
+                ? new Completion(null, promptTokens, completionTokens, null)
+                : new Completion(choice.content(), promptTokens, completionTokens, choice.finishReason());
+    }
+
+    private Choice readFirstChoice(JsonParser parser) {
+        Choice choice = null;
+        boolean first = true;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (first && token == JsonToken.START_OBJECT) {
+                choice = readChoice(parser);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return choice;
+    }
+
+    private Choice readChoice(JsonParser parser) {
+        String content = null;
+        String finishReason = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT && ("message".equals(name) || "delta".equals(name))) {
+                content = readContent(parser);
+            } else if (value == JsonToken.VALUE_STRING && "finish_reason".equals(name)) {
+                finishReason = parser.getString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Choice(content, finishReason);
+    }
+
+    private String readContent(JsonParser parser) {
+        String content = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_STRING && "content".equals(name)) {
+                content = parser.getString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return content;
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.mamuriapp.ai.provider;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LLM 호출용 서킷 브레이커.
+ * 최근 N회 호출의 실패율 또는 느린 호출 비율이 임계치를 넘으면 열리고,
+ * 열린 시간이 지나면 반열림 상태에서 시험 호출로 회복 여부를 판단한다.
+ * LLM 호출 빈도는 낮으므로 상태 전환 로그까지 포함해 락 하나로 상태를 보호한다.
+ */
+@Slf4j
+class LlmCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final AiProperties.Resilience config;
+    private final MeterRegistry registry;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slows;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    LlmCircuitBreaker(AiProperties.Resilience config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMs());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMs());
+        this.failedCalls = new boolean[config.getSlidingWindowSize()];
+        this.slowCalls = new boolean[config.getSlidingWindowSize()];
+
+        Gauge.builder("llm.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("LLM 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(registry);
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출을 허용할지 결정한다. 열린 시간이 지났으면 반열림으로 전환한다.
+     *
+     * @return 호출 가능하면 true
+     */
+    boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight >= config.getHalfOpenCalls()) {
+                    return false;
+                }
+                halfOpenInFlight++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허용받았지만 실제로 호출하지 않은 경우 반열림 시험 호출 자리를 돌려준다.
+     */
+    void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(long durationNanos) {
+        lock.lock();
+        try {
+            record(false, durationNanos >= slowCallNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onError(long durationNanos) {
+        lock.lock();
+        try {
+            record(true, durationNanos >= slowCallNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        switch (state) {
+            case HALF_OPEN -> {
+                halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+                if (failed || slow) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                addToWindow(failed, slow);
+                if (recorded >= config.getMinimumCalls()
+                        && (exceeds(failures, config.getFailureRateThreshold())
+                        || exceeds(slows, config.getSlowCallRateThreshold()))) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case OPEN -> {
+                // 서킷이 열리기 전에 시작된 호출의 결과는 무시한다.
+            }
+        }
+    }
+
+    private void addToWindow(boolean failed, boolean slow) {
+        if (recorded == failedCalls.length) {
+            if (failedCalls[next]) {
+                failures--;
+            }
+            if (slowCalls[next]) {
+                slows--;
+            }
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        if (failed) {
+            failures++;
+        }
+        if (slow) {
+            slows++;
+        }
+        next = (next + 1) % failedCalls.length;
+    }
+
+    private boolean exceeds(int count, int thresholdPercent) {
+        return count * 100L >= (long) thresholdPercent * recorded;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        switch (target) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                slows = 0;
+            }
+        }
+        registry.counter("llm.circuit.transitions",
+                "from", previous.name(), "to", target.name()).increment();
+        log.warn("LLM 서킷 상태 전환: {} -> {}", previous, target);
+    }
+}
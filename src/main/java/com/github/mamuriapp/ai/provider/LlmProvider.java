@@ -1,8 +1,11 @@
 package com.github.mamuriapp.ai.provider;
 
+import java.util.function.Consumer;
+
 /**
  * LLM 공급자 인터페이스.
  * 외부 LLM API 호출을 추상화한다.
+ * 응답에는 가능한 한 공급자가 보고한 토큰 사용량, 호출 시간, 종료 사유를 담는다.
  */
 public interface LlmProvider {
 
@@ -14,4 +17,20 @@ public interface LlmProvider {
      * @return LLM 응답
      */
     LlmResponse generate(String prompt, int maxTokens);
+
+    /**
+     * 프롬프트를 전송하고 생성되는 텍스트 조각을 도착하는 대로 전달한다.
+     * 모든 조각이 전달된 뒤 전체 텍스트를 담은 응답을 반환한다.
+     * 스트리밍을 지원하지 않는 공급자는 전체 응답을 한 조각으로 전달한다.
+     *
+     * @param prompt    전송할 프롬프트 전문
+     * @param maxTokens 최대 출력 토큰 수
+     * @param onChunk   텍스트 조각 수신 콜백
+     * @return 전체 텍스트를 담은 LLM 응답
+     */
+    default LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        LlmResponse response = generate(prompt, maxTokens);
+        onChunk.accept(response.content());
+        return response;
+    }
 }
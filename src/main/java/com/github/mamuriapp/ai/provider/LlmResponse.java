@@ -3,8 +3,99 @@ package com.github.mamuriapp.ai.provider;
 /**
  * LLM 응답 레코드.
  *
- * @param content   생성된 텍스트
- * @param modelName 사용된 모델명
+ * @param content          생성된 텍스트
+ * @param modelName        사용된 모델명
+ * @param promptTokens     공급자가 보고한 입력 토큰 수 (모르면 {@link #UNKNOWN_TOKENS})
+ * @param completionTokens 공급자가 보고한 출력 토큰 수 (모르면 {@link #UNKNOWN_TOKENS})
+ * @param latencyMs        공급자 호출에 걸린 시간 (밀리초)
+ * @param finishReason     생성 종료 사유 (stop, length 등, 모르면 null)
+ * @param cacheHit         공급자를 호출하지 않고 캐시에서 꺼낸 응답이면 true
  */
-public record LlmResponse(String content, String modelName) {
+public record LlmResponse(String content, String modelName, int promptTokens, int completionTokens,
+                          long latencyMs, String finishReason, boolean cacheHit) {
+
+    /** 장애 시 대체 응답의 모델명 */
+    public static final String FALLBACK_MODEL_NAME = "fallback";
+
+    /** 공급자가 사용량을 보고하지 않았을 때의 토큰 수 */
+    public static final int UNKNOWN_TOKENS = -1;
+
+    /** 정상 종료 사유 */
+    public static final String FINISH_STOP = "stop";
+
+    /** 최대 출력 토큰에 도달해 잘린 경우의 종료 사유 */
+    public static final String FINISH_LENGTH = "length";
+
+    /**
+     * 공급자가 생성한 응답을 만든다.
+     *
+     * @param content          생성된 텍스트
+     * @param modelName        사용된 모델명
+     * @param promptTokens     입력 토큰 수
+     * @param completionTokens 출력 토큰 수
+     * @param latencyMs        호출 시간 (밀리초)
+     * @param finishReason     생성 종료 사유
+     */
+    public LlmResponse(String content, String modelName, int promptTokens, int completionTokens,
+                       long latencyMs, String finishReason) {
+        this(content, modelName, promptTokens, completionTokens, latencyMs, finishReason, false);
+    }
+
+    /**
+     * 사용량 정보 없이 응답을 생성한다.
+     *
+     * @param content   생성된 텍스트
+     * @param modelName 사용된 모델명
+     */
+    public LlmResponse(String content, String modelName) {
+        this(content, modelName, UNKNOWN_TOKENS, UNKNOWN_TOKENS, 0, null);
+    }
+
+    /**
+     * 상위 LLM 대신 반환하는 대체 응답을 생성한다.
+     *
+     * @param content 대체 문구
+     * @return 대체 응답
+     */
+    public static LlmResponse fallback(String content) {
+        return new LlmResponse(content, FALLBACK_MODEL_NAME);
+    }
+
+    /**
+     * 호출 시간을 바꾼 응답을 반환한다.
+     *
+     * @param latencyMs 호출 시간 (밀리초)
+     * @return 새 응답
+     */
+    public LlmResponse withLatency(long latencyMs) {
+        return new LlmResponse(content, modelName, promptTokens, completionTokens, latencyMs, finishReason, cacheHit);
+    }
+
+    /**
+     * 캐시에서 꺼낸 응답으로 바꾼다. 공급자를 호출하지 않았으므로 사용량은 0이다.
+     *
+     * @param latencyMs 캐시 조회 시간 (밀리초)
+     * @return 새 응답
+     */
+    public LlmResponse asCacheHit(long latencyMs) {
+        return new LlmResponse(content, modelName, 0, 0, latencyMs, finishReason, true);
+    }
+
+    /**
+     * 대체 응답 여부. 대체 응답은 캐시하지 않는다.
+     *
+     * @return 대체 응답이면 true
+     */
+    public boolean isFallback() {
+        return FALLBACK_MODEL_NAME.equals(modelName);
+    }
+
+    /**
+     * 공급자가 토큰 사용량을 보고했는지 여부.
+     *
+     * @return 입력·출력 토큰 수를 모두 알면 true
+     */
+    public boolean hasUsage() {
+        return promptTokens >= 0 && completionTokens >= 0;
+    }
 }
@@ -1,28 +1,76 @@
 package com.github.mamuriapp.ai.provider;
 
+import com.github.mamuriapp.ai.config.AiProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 /**
  * 로컬 테스트용 LLM 스텁 프로바이더.
  * ai.provider=stub (기본값) 일 때 활성화된다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "ai.provider", havingValue = "stub", matchIfMissing = true)
 public class LocalStubProvider implements LlmProvider {
 
     private static final String MODEL_NAME = "local-stub";
 
+    public static final String CONTENT = "오늘 하루도 정말 수고 많으셨어요. "
+            + "일기를 통해 마음을 나눠 주셔서 감사해요. "
+            + "내일도 좋은 하루가 되시길 바랄게요.";
+
+    private final AiProperties aiProperties;
+
     @Override
     public LlmResponse generate(String prompt, int maxTokens) {
         log.debug("LocalStubProvider 호출 (maxTokens={})", maxTokens);
+        return response(0);
+    }
 
-        String content = "오늘 하루도 정말 수고 많으셨어요. "
-                + "일기를 통해 마음을 나눠 주셔서 감사해요. "
-                + "내일도 좋은 하루가 되시길 바랄게요.";
+    /**
+     * 고정 응답을 어절 단위 조각으로 나누어 설정된 지연과 함께 전달한다.
+     * 네트워크 없이 스트리밍 경로와 첫 토큰 지연을 재현하기 위해 사용한다.
+     */
+    @Override
+    public LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        AiProperties.Stub stub = aiProperties.getStub();
+        log.debug("LocalStubProvider 스트리밍 호출 (maxTokens={}, chunkDelayMs={})",
+                maxTokens, stub.getChunkDelayMs());
+
+        long startedAt = System.nanoTime();
+        sleep(stub.getFirstChunkDelayMs());
+        int start = 0;
+        while (start < CONTENT.length()) {
+            int end = CONTENT.indexOf(' ', start);
+            end = end < 0 ? CONTENT.length() : end + 1;
+            onChunk.accept(CONTENT.substring(start, end));
+            start = end;
+            if (start < CONTENT.length()) {
+                sleep(stub.getChunkDelayMs());
+            }
+        }
+        return response(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static LlmResponse response(long latencyMs) {
+        return new LlmResponse(CONTENT, MODEL_NAME, LlmResponse.UNKNOWN_TOKENS, LlmResponse.UNKNOWN_TOKENS,
+                latencyMs, LlmResponse.FINISH_STOP);
+    }
 
-        return new LlmResponse(content, MODEL_NAME);
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -1,35 +1,73 @@
 package com.github.mamuriapp.ai.provider;
 
 import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.global.config.ThreadingConfig;
 import com.github.mamuriapp.global.exception.CustomException;
 import com.github.mamuriapp.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * OpenAI API 기반 LLM 프로바이더.
  * ai.provider=openai 일 때 활성화된다.
+ * 커넥션을 재사용하는 JDK HttpClient(HTTP/2 지원) 위에서 동작하며,
+ * 응답은 {@link ChatCompletionParser}로 필요한 필드만 스트리밍 파싱한다.
+ * 커넥션 풀의 유휴 유지 시간과 크기는 JVM 전체에 적용되는 설정이라 애플리케이션에서 바꾸지 않는다.
+ * 조정이 필요하면 실행 시 -Djdk.httpclient.keepalive.timeout=30 -Djdk.httpclient.connectionPoolSize=16 처럼 JVM 옵션으로 지정한다.
  */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "ai.provider", havingValue = "openai")
 public class OpenAiProvider implements LlmProvider {
 
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
     private final AiProperties aiProperties;
+    private final ChatCompletionParser parser;
     private final RestClient restClient;
+    private final ExecutorService executor;
 
-    public OpenAiProvider(AiProperties aiProperties) {
+    public OpenAiProvider(AiProperties aiProperties, ObjectMapper objectMapper,
+                          ThreadingConfig threadingConfig) {
         this.aiProperties = aiProperties;
+        this.parser = new ChatCompletionParser(objectMapper);
+
+        AiProperties.Api api = aiProperties.getApi();
+        AiProperties.Resilience resilience = aiProperties.getResilience();
+        this.executor = threadingConfig.newExecutor("openai-http-", api.getClientThreads());
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.valueOf(api.getHttpVersion()))
+                .connectTimeout(Duration.ofMillis(resilience.getConnectTimeoutMs()))
+                .executor(executor)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(resilience.getReadTimeoutMs()));
+
         this.restClient = RestClient.builder()
-                .baseUrl(aiProperties.getApi().getUrl())
-                .defaultHeader("Authorization", "Bearer " + aiProperties.getApi().getKey())
+                .requestFactory(requestFactory)
+                .baseUrl(api.getUrl())
+                .defaultHeader("Authorization", "Bearer " + api.getKey())
                 .build();
     }
 
@@ -45,35 +83,129 @@ public class OpenAiProvider implements LlmProvider {
                 "temperature", 0.7
         );
 
+        long start = System.nanoTime();
         try {
-            Map<?, ?> response = restClient.post()
+            ChatCompletionParser.Completion completion = restClient.post()
                     .uri("/chat/completions")
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(requestBody)
-                    .retrieve()
-                    .body(Map.class);
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+                        }
+                        return parser.parse(response.getBody());
+                    });
 
-            String content = extractContent(response);
-            return new LlmResponse(content, model);
+            if (completion.content() == null) {
+                throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+            }
+            logUsage(model, completion);
+            return toResponse(model, completion, start);
+        } catch (CustomException e) {
+            log.error("OpenAI API 응답 오류 (model={})", model);
+            throw e;
         } catch (Exception e) {
             log.error("OpenAI API 호출 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private String extractContent(Map<?, ?> response) {
-        if (response == null) {
+    /**
+     * stream=true로 요청하고 SSE 응답의 delta 조각을 도착하는 대로 전달한다.
+     */
+    @Override
+    public LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        String model = aiProperties.getApi().getModel();
+        log.debug("OpenAI API 스트리밍 호출 (model={}, maxTokens={})", model, maxTokens);
+
+        Map<String, Object> requestBody = Map.of(
+                "model", model,
+                "messages", List.of(Map.of("role", "user", "content", prompt)),
+                "max_tokens", maxTokens,
+                "temperature", 0.7,
+                "stream", true,
+                "stream_options", Map.of("include_usage", true)
+        );
+
+        long start = System.nanoTime();
+        try {
+            ChatCompletionParser.Completion completion = restClient.post()
+                    .uri("/chat/completions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(requestBody)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+                        }
+                        return readStream(model, response.getBody(), onChunk);
+                    });
+            return toResponse(model, completion, start);
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("OpenAI API 스트리밍 호출 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
         }
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+    }
+
+    private static LlmResponse toResponse(String model, ChatCompletionParser.Completion completion, long start) {
+        return new LlmResponse(completion.content().trim(), model,
+                completion.promptTokens(), completion.completionTokens(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), completion.finishReason());
+    }
+
+    /**
+     * SSE 응답을 읽어 delta 조각을 전달하고, 이어 붙인 전체 텍스트와 usage, 종료 사유를 반환한다.
+     */
+    private ChatCompletionParser.Completion readStream(String model, InputStream body,
+                                                       Consumer<String> onChunk) throws IOException {
+        StringBuilder content = new StringBuilder();
+        int promptTokens = LlmResponse.UNKNOWN_TOKENS;
+        int completionTokens = LlmResponse.UNKNOWN_TOKENS;
+        String finishReason = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith(SSE_DATA_PREFIX)) {
+                    continue;
+                }
+                String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                if (SSE_DONE.equals(data)) {
+                    break;
+                }
+                ChatCompletionParser.Completion chunk = parser.parseChunk(data);
+                if (chunk.hasUsage()) {
+                    logUsage(model, chunk);
+                    promptTokens = chunk.promptTokens();
+                    completionTokens = chunk.completionTokens();
+                }
+                if (chunk.finishReason() != null) {
+                    finishReason = chunk.finishReason();
+                }
+                String delta = chunk.content();
+                if (delta != null && !delta.isEmpty()) {
+                    content.append(delta);
+                    onChunk.accept(delta);
+                }
+            }
         }
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        if (message == null || message.get("content") == null) {
+        if (content.isEmpty()) {
             throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
         }
-        return ((String) message.get("content")).trim();
+        return new ChatCompletionParser.Completion(content.toString(), promptTokens, completionTokens, finishReason);
+    }
+
+    private void logUsage(String model, ChatCompletionParser.Completion completion) {
+        if (completion.hasUsage()) {
+            log.debug("OpenAI 토큰 사용량 (model={}, prompt={}, completion={})",
+                    model, completion.promptTokens(), completion.completionTokens());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 }
@@ -0,0 +1,189 @@
+package com.github.mamuriapp.ai.provider;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 타임아웃, 벌크헤드, 서킷 브레이커를 적용한 LLM 공급자 데코레이터.
+ * 호출은 전용 스레드에서 실행하고 호출자는 전체 마감 시간까지만 기다린다.
+ * 서킷이 열렸거나, 동시 호출이 가득 찼거나, 호출이 실패·초과되면 대체 공급자의 응답을 반환한다.
+ * 스트리밍 중 이미 조각을 전달한 뒤 실패하면 내용이 섞이지 않도록 대체하지 않고 예외를 던진다.
+ */
+@Slf4j
+public class ResilientLlmProvider implements LlmProvider {
+
+    private final LlmProvider delegate;
+    private final LlmProvider fallback;
+    private final AiProperties.Resilience config;
+    private final MeterRegistry registry;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final ExecutorService executor;
+
+    /**
+     * @param delegate 실제 호출을 수행할 공급자
+     * @param fallback 실패 시 응답을 대신 만들 공급자
+     * @param config   보호 설정
+     * @param registry 지표 레지스트리
+     * @param executor 호출을 실행할 실행기 (동시 실행 수는 벌크헤드가 제한한다)
+     */
+    public ResilientLlmProvider(LlmProvider delegate, LlmProvider fallback,
+                                AiProperties.Resilience config, MeterRegistry registry,
+                                ExecutorService executor) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.config = config;
+        this.registry = registry;
+        this.circuitBreaker = new LlmCircuitBreaker(config, registry);
+        this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+        this.executor = executor;
+    }
+
+    @Override
+    public LlmResponse generate(String prompt, int maxTokens) {
+        return execute(() -> delegate.generate(prompt, maxTokens),
+                () -> fallback.generate(prompt, maxTokens), null);
+    }
+
+    @Override
+    public LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        ChunkGate gate = new ChunkGate(onChunk);
+        return execute(() -> delegate.stream(prompt, maxTokens, gate),
+                () -> fallback.stream(prompt, maxTokens, onChunk), gate);
+    }
+
+    private LlmResponse execute(Supplier<LlmResponse> call,
+                                Supplier<LlmResponse> fallbackCall,
+                                ChunkGate gate) {
+        long requested = System.nanoTime();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback("circuit_open", fallbackCall, gate, null, requested);
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            return fallback("bulkhead_full", fallbackCall, gate, null, requested);
+        }
+
+        long start = System.nanoTime();
+        Future<LlmResponse> future;
+        try {
+            // 마감 시간이 지나도 실제 호출이 끝날 때까지 자리를 차지하도록 작업 안에서 반환한다.
+            future = executor.submit(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        try {
+            LlmResponse response = future.get(config.getCallTimeoutMs(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return response;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onError(System.nanoTime() - start);
+            return fallback("timeout", fallbackCall, gate, e, requested);
+        } catch (ExecutionException e) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            return fallback("error", fallbackCall, gate, e.getCause(), requested);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(config.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private LlmResponse fallback(String reason, Supplier<LlmResponse> fallbackCall,
+                                 ChunkGate gate, Throwable cause, long requested) {
+        registry.counter("llm.fallback", "reason", reason).increment();
+        boolean delivered = gate != null && gate.close();
+
+        if (!config.isFallbackEnabled() || delivered) {
+            log.warn("LLM 호출 실패 (reason={}, delivered={}): {}", reason, delivered,
+                    cause != null ? cause.getMessage() : "-");
+            if (cause instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+
+        log.warn("LLM 대체 응답 반환 (reason={}): {}", reason,
+                cause != null ? cause.getMessage() : "-");
+        return LlmResponse.fallback(fallbackCall.get().content())
+                .withLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requested));
+    }
+
+    /**
+     * 스트리밍 조각 전달을 감싸 마감 이후의 늦은 조각을 막고, 전달 여부를 기록한다.
+     * 조각 전달은 응답 쓰기(IO)를 포함하므로 락으로 보호한다.
+     */
+    private static final class ChunkGate implements Consumer<String> {
+
+        private final Consumer<String> target;
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+        private boolean delivered;
+
+        ChunkGate(Consumer<String> target) {
+            this.target = target;
+        }
+
+        @Override
+        public void accept(String chunk) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                delivered = true;
+                target.accept(chunk);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 이후 조각을 버리도록 닫는다.
+         *
+         * @return 닫기 전에 조각이 하나라도 전달되었으면 true
+         */
+        boolean close() {
+            lock.lock();
+            try {
+                closed = true;
+                return delivered;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
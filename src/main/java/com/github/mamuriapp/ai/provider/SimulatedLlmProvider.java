@@ -0,0 +1,98 @@
+package com.github.mamuriapp.ai.provider;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.simulation.LlmSimulator;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 시뮬레이션 LLM 공급자.
+ * ai.provider=simulated 일 때 활성화된다.
+ * 실제 API처럼 시간을 소비하고 사용량을 보고하며, 설정한 비율로 오류와 타임아웃을 낸다.
+ * 대기는 인터럽트에 반응하므로 보호 계층의 마감 시간 취소도 실제와 같이 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "simulated")
+public class SimulatedLlmProvider implements LlmProvider {
+
+    private static final String MODEL_NAME = "simulated";
+
+    private final LlmSimulator simulator;
+
+    public SimulatedLlmProvider(AiProperties aiProperties, TokenEstimator tokenEstimator) {
+        this.simulator = new LlmSimulator(aiProperties.getSimulation(), tokenEstimator);
+    }
+
+    @Override
+    public LlmResponse generate(String prompt, int maxTokens) {
+        long start = System.nanoTime();
+        LlmSimulator.Plan plan = simulator.plan(prompt, maxTokens);
+        log.debug("시뮬레이션 호출 (outcome={}, firstTokenDelayMs={}, tokens={})",
+                plan.outcome(), plan.firstTokenDelayMs(), plan.completionTokens());
+
+        switch (plan.outcome()) {
+            case TIMEOUT -> {
+                pause(TimeUnit.MILLISECONDS.toNanos(plan.timeoutMs()));
+                throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+            }
+            case ERROR -> {
+                pause(TimeUnit.MILLISECONDS.toNanos(plan.firstTokenDelayMs()));
+                throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+            }
+            case SUCCESS -> pause(plan.totalNanos());
+        }
+        return toResponse(plan, start);
+    }
+
+    /**
+     * 첫 토큰 지연 후 토큰 조각을 생성 속도에 맞춰 하나씩 전달한다.
+     * 오류가 주입된 호출은 일부 조각을 전달한 뒤 실패한다.
+     */
+    @Override
+    public LlmResponse stream(String prompt, int maxTokens, Consumer<String> onChunk) {
+        long start = System.nanoTime();
+        LlmSimulator.Plan plan = simulator.plan(prompt, maxTokens);
+
+        if (plan.outcome() == LlmSimulator.Outcome.TIMEOUT) {
+            pause(TimeUnit.MILLISECONDS.toNanos(plan.timeoutMs()));
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+
+        pause(TimeUnit.MILLISECONDS.toNanos(plan.firstTokenDelayMs()));
+        for (int i = 0; i < plan.completionTokens(); i++) {
+            if (i == plan.failAfterTokens()) {
+                throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+            }
+            if (i > 0) {
+                pause(plan.tokenIntervalNanos());
+            }
+            onChunk.accept(plan.tokens().get(i));
+        }
+        return toResponse(plan, start);
+    }
+
+    private static LlmResponse toResponse(LlmSimulator.Plan plan, long start) {
+        return new LlmResponse(plan.content(), MODEL_NAME, plan.promptTokens(), plan.completionTokens(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), plan.finishReason());
+    }
+
+    private static void pause(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.mamuriapp.ai.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 토큰 버킷 저장소.
+ * 버킷마다 "이론상 다음 도착 시각"(GCRA) 하나만 AtomicLong으로 두고 CAS로 갱신하므로 락이 없고,
+ * 키별로 상태가 나뉘어 있어 사용자 간 경합도 없다.
+ * 오래 쓰이지 않은 버킷은 이미 가득 찬 상태와 같으므로 캐시에서 만료시켜 메모리를 제한한다.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final long MAX_BUCKETS = 100_000;
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final long origin = System.nanoTime();
+    private final Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_BUCKETS)
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+
+    @Override
+    public boolean tryConsume(String key, long permits, long capacity, long refillPerMinute) {
+        long interval = Math.max(1, NANOS_PER_MINUTE / refillPerMinute);
+        long increment = interval * Math.min(permits, capacity);
+        long tolerance = interval * capacity;
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong());
+
+        while (true) {
+            long now = System.nanoTime() - origin;
+            long current = arrival.get();
+            long next = Math.max(current, now) + increment;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void refund(String key, long permits, long capacity, long refillPerMinute) {
+        AtomicLong arrival = buckets.getIfPresent(key);
+        if (arrival == null) {
+            return;
+        }
+        long interval = Math.max(1, NANOS_PER_MINUTE / refillPerMinute);
+        long decrement = interval * Math.min(permits, capacity);
+
+        while (true) {
+            long now = System.nanoTime() - origin;
+            long current = arrival.get();
+            if (current <= now) {
+                // 이미 가득 찬 버킷이다.
+                return;
+            }
+            if (arrival.compareAndSet(current, Math.max(now, current - decrement))) {
+                return;
+            }
+        }
+    }
+}
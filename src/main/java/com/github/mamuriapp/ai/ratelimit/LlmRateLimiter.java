@@ -0,0 +1,71 @@
+package com.github.mamuriapp.ai.ratelimit;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+import com.github.mamuriapp.diary.entity.Diary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 호출 한도 관리자.
+ * 사용자별 호출 수 버킷과 공급자 토큰 수 전체 버킷을 차례로 확인한다.
+ * 전체 버킷에 막히면 호출하지 않으므로 먼저 꺼낸 사용자 토큰을 되돌린다.
+ * 한도 초과 시 호출자는 예외 대신 코멘트 생성을 미루거나 스텁으로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmRateLimiter {
+
+    private static final String USER_KEY_PREFIX = "llm:user:";
+    private static final String GLOBAL_KEY = "llm:global";
+
+    private final RateLimitStore rateLimitStore;
+    private final AiProperties aiProperties;
+    private final MeterRegistry meterRegistry;
+    private final TokenEstimator tokenEstimator;
+
+    /**
+     * 일기 한 건의 코멘트 생성에 필요한 한도를 차감한다.
+     *
+     * @param userId 사용자 ID
+     * @param diary  대상 일기
+     * @return 호출 가능하면 true
+     */
+    public boolean tryAcquire(Long userId, Diary diary) {
+        AiProperties.RateLimit config = aiProperties.getRateLimit();
+        if (!config.isEnabled()) {
+            return true;
+        }
+
+        String userKey = USER_KEY_PREFIX + userId;
+        if (!rateLimitStore.tryConsume(userKey, 1, config.getUserBurst(), config.getUserCallsPerMinute())) {
+            return reject("user", userId, diary);
+        }
+
+        long globalTokens = config.getGlobalTokensPerMinute();
+        if (!rateLimitStore.tryConsume(GLOBAL_KEY, estimateTokens(diary), globalTokens, globalTokens)) {
+            rateLimitStore.refund(userKey, 1, config.getUserBurst(), config.getUserCallsPerMinute());
+            return reject("global", userId, diary);
+        }
+        return true;
+    }
+
+    /**
+     * 호출 한 번에 소모될 공급자 토큰 수를 추정한다.
+     * 입력 예산으로 잘린 본문 토큰 수에 최대 출력 토큰을 더한다. 본문 토큰 수는 캐시되므로
+     * 이어지는 프롬프트 렌더링에서 다시 세지 않는다.
+     */
+    private long estimateTokens(Diary diary) {
+        int inputTokens = Math.min(tokenEstimator.countDiary(diary), aiProperties.getTokens().getMaxInputTokens());
+        return (long) inputTokens + aiProperties.getMaxOutputTokens();
+    }
+
+    private boolean reject(String scope, Long userId, Diary diary) {
+        meterRegistry.counter("llm.rate_limited", "scope", scope).increment();
+        log.info("LLM 호출 한도 초과 (scope={}, userId={}, diaryId={})", scope, userId, diary.getId());
+        return false;
+    }
+}
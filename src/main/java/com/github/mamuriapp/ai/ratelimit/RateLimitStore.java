@@ -0,0 +1,32 @@
+package com.github.mamuriapp.ai.ratelimit;
+
+/**
+ * 토큰 버킷 상태 저장소.
+ * 기본 구현은 프로세스 내 {@link InMemoryRateLimitStore}이며,
+ * 여러 노드가 한도를 공유해야 하면 같은 계약으로 Postgres 등 외부 저장소 구현을 {@code @Primary}로 등록한다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * 키에 해당하는 버킷에서 토큰을 꺼낸다.
+     * 버킷은 분당 refillPerMinute만큼 채워지고 capacity까지만 쌓인다.
+     *
+     * @param key             버킷 키
+     * @param permits         꺼낼 토큰 수
+     * @param capacity        버킷 용량 (최대 버스트)
+     * @param refillPerMinute 분당 보충량
+     * @return 꺼냈으면 true, 부족하면 false (이때 토큰은 차감되지 않는다)
+     */
+    boolean tryConsume(String key, long permits, long capacity, long refillPerMinute);
+
+    /**
+     * 꺼낸 토큰을 버킷에 되돌린다. 뒤의 한도 검사에 막혀 실제로 호출하지 않았을 때 쓴다.
+     * 버킷은 capacity를 넘지 않는다.
+     *
+     * @param key             버킷 키
+     * @param permits         되돌릴 토큰 수
+     * @param capacity        버킷 용량 (최대 버스트)
+     * @param refillPerMinute 분당 보충량
+     */
+    void refund(String key, long permits, long capacity, long refillPerMinute);
+}
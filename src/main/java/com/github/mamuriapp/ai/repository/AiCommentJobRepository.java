@@ -0,0 +1,55 @@
+package com.github.mamuriapp.ai.repository;
+
+import com.github.mamuriapp.ai.entity.AiCommentJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 코멘트 생성 작업 리포지토리.
+ */
+public interface AiCommentJobRepository extends JpaRepository<AiCommentJob, Long> {
+
+    /**
+     * 일기 ID로 작업을 조회한다.
+     *
+     * @param diaryId 일기 ID
+     * @return 작업 Optional
+     */
+    Optional<AiCommentJob> findByDiaryId(Long diaryId);
+
+    /**
+     * 작업을 일기와 함께 조회한다.
+     * 작업에 저장된 일기 날짜로 조인해 일기 파티션 하나만 읽는다.
+     *
+     * @param id 작업 ID
+     * @return 작업 Optional
+     */
+    @Query("SELECT j FROM AiCommentJob j JOIN FETCH j.diary d " +
+           "WHERE j.id = :id AND d.diaryDate = j.diaryDate")
+    Optional<AiCommentJob> findWithDiaryById(@Param("id") Long id);
+
+    /**
+     * 처리 가능한 작업을 잠그고 조회한다.
+     * 다음 시도 시각이 된 대기 작업과, 워커 중단 등으로 오래 처리 중 상태에 머문 작업이 대상이다.
+     * SKIP LOCKED로 여러 노드의 워커가 같은 작업을 중복 처리하지 않는다.
+     *
+     * @param now         현재 시각 (미룬 작업은 다음 시도 시각이 지나야 가져간다)
+     * @param staleBefore 이 시각 이전에 갱신된 처리 중 작업은 다시 가져간다
+     * @param limit       최대 조회 건수
+     * @return 작업 목록
+     */
+    @Query(value = "SELECT * FROM ai_comment_jobs " +
+                   "WHERE (status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= :now)) " +
+                   "OR (status = 'PROCESSING' AND updated_at < :staleBefore) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<AiCommentJob> findClaimable(
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("limit") int limit);
+}
@@ -2,7 +2,11 @@ package com.github.mamuriapp.ai.repository;
 
 import com.github.mamuriapp.ai.entity.AiComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,4 +21,13 @@ public interface AiCommentRepository extends JpaRepository<AiComment, Long> {
      * @return AI 코멘트 Optional
      */
     Optional<AiComment> findByDiaryId(Long diaryId);
+
+    /**
+     * 여러 일기의 AI 코멘트를 한 번의 IN 쿼리로 조회한다.
+     *
+     * @param diaryIds 일기 ID 목록
+     * @return AI 코멘트 목록
+     */
+    @Query("SELECT c FROM AiComment c WHERE c.diary.id IN :diaryIds")
+    List<AiComment> findByDiaryIdIn(@Param("diaryIds") Collection<Long> diaryIds);
 }
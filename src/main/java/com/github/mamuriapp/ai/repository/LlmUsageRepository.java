@@ -0,0 +1,175 @@
+package com.github.mamuriapp.ai.repository;
+
+import com.github.mamuriapp.ai.dto.LlmUsageDailyResponse;
+import com.github.mamuriapp.ai.dto.LlmUsageUserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * LLM 사용량 집계 리포지토리.
+ * 누적 UPSERT와 기간 합산 조회가 중심이라 JPA 엔티티 대신 JDBC로 직접 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LlmUsageRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO llm_usage (usage_date, user_id, provider, model, prompt_version,
+                                   calls, prompt_tokens, completion_tokens, truncated_calls,
+                                   total_latency_ms, max_latency_ms, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (usage_date, user_id, provider, model, prompt_version) DO UPDATE SET
+                calls = llm_usage.calls + EXCLUDED.calls,
+                prompt_tokens = llm_usage.prompt_tokens + EXCLUDED.prompt_tokens,
+                completion_tokens = llm_usage.completion_tokens + EXCLUDED.completion_tokens,
+                truncated_calls = llm_usage.truncated_calls + EXCLUDED.truncated_calls,
+                total_latency_ms = llm_usage.total_latency_ms + EXCLUDED.total_latency_ms,
+                max_latency_ms = GREATEST(llm_usage.max_latency_ms, EXCLUDED.max_latency_ms),
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String DAILY_SELECT = """
+            SELECT usage_date, provider, model, prompt_version,
+                   SUM(calls) AS calls, SUM(prompt_tokens) AS prompt_tokens,
+                   SUM(completion_tokens) AS completion_tokens, SUM(truncated_calls) AS truncated_calls,
+                   SUM(total_latency_ms) AS total_latency_ms, MAX(max_latency_ms) AS max_latency_ms
+            FROM llm_usage
+            """;
+
+    private static final String DAILY_GROUP = """
+            GROUP BY usage_date, provider, model, prompt_version
+            ORDER BY usage_date, provider, model, prompt_version
+            """;
+
+    private static final String DAILY_SQL = DAILY_SELECT
+            + "WHERE usage_date BETWEEN ? AND ?\n" + DAILY_GROUP;
+
+    private static final String USER_DAILY_SQL = DAILY_SELECT
+            + "WHERE user_id = ? AND usage_date BETWEEN ? AND ?\n" + DAILY_GROUP;
+
+    private static final String TOP_USERS_SQL = """
+            SELECT user_id,
+                   SUM(calls) AS calls, SUM(prompt_tokens) AS prompt_tokens,
+                   SUM(completion_tokens) AS completion_tokens, SUM(truncated_calls) AS truncated_calls,
+                   SUM(total_latency_ms) AS total_latency_ms, MAX(max_latency_ms) AS max_latency_ms
+            FROM llm_usage
+            WHERE usage_date BETWEEN ? AND ?
+            GROUP BY user_id
+            ORDER BY SUM(prompt_tokens) + SUM(completion_tokens) DESC, user_id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<LlmUsageDailyResponse> DAILY_MAPPER = (rs, rowNum) ->
+            new LlmUsageDailyResponse(
+                    rs.getDate("usage_date").toLocalDate(),
+                    rs.getString("provider"),
+                    rs.getString("model"),
+                    rs.getString("prompt_version"),
+                    rs.getLong("calls"),
+                    rs.getLong("prompt_tokens"),
+                    rs.getLong("completion_tokens"),
+                    rs.getLong("truncated_calls"),
+                    averageLatency(rs.getLong("total_latency_ms"), rs.getLong("calls")),
+                    rs.getLong("max_latency_ms"));
+
+    private static final RowMapper<LlmUsageUserResponse> USER_MAPPER = (rs, rowNum) ->
+            new LlmUsageUserResponse(
+                    rs.getLong("user_id"),
+                    rs.getLong("calls"),
+                    rs.getLong("prompt_tokens"),
+                    rs.getLong("completion_tokens"),
+                    rs.getLong("truncated_calls"),
+                    averageLatency(rs.getLong("total_latency_ms"), rs.getLong("calls")),
+                    rs.getLong("max_latency_ms"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 합산된 사용량을 한 번의 배치로 누적한다.
+     * 실패 시 호출자가 다시 시도할 수 있도록 전부 반영되거나 전혀 반영되지 않는다.
+     *
+     * @param deltas 누적할 사용량 (여러 노드가 같은 행을 갱신할 때 교착을 피하도록 키 순으로 정렬)
+     */
+    @Transactional
+    public void addAll(List<Delta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.usageDate()));
+            ps.setLong(2, delta.userId());
+            ps.setString(3, delta.provider());
+            ps.setString(4, delta.model());
+            ps.setString(5, delta.promptVersion());
+            ps.setLong(6, delta.calls());
+            ps.setLong(7, delta.promptTokens());
+            ps.setLong(8, delta.completionTokens());
+            ps.setLong(9, delta.truncatedCalls());
+            ps.setLong(10, delta.totalLatencyMs());
+            ps.setLong(11, delta.maxLatencyMs());
+        });
+    }
+
+    /**
+     * 기간 내 일자·공급자·모델·프롬프트 버전별 사용량을 전체 사용자에 대해 합산한다.
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     * @return 일자별 사용량
+     */
+    public List<LlmUsageDailyResponse> findDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DAILY_SQL, DAILY_MAPPER, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 한 사용자의 기간 내 일자·공급자·모델·프롬프트 버전별 사용량을 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param from   시작일 (포함)
+     * @param to     종료일 (포함)
+     * @return 일자별 사용량
+     */
+    public List<LlmUsageDailyResponse> findDailyByUser(Long userId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(USER_DAILY_SQL, DAILY_MAPPER, userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 기간 내 토큰 사용량이 많은 사용자 순으로 합산한다.
+     *
+     * @param from  시작일 (포함)
+     * @param to    종료일 (포함)
+     * @param limit 최대 사용자 수
+     * @return 사용자별 사용량
+     */
+    public List<LlmUsageUserResponse> findTopUsers(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(TOP_USERS_SQL, USER_MAPPER, Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    private static long averageLatency(long totalLatencyMs, long calls) {
+        return calls == 0 ? 0 : totalLatencyMs / calls;
+    }
+
+    /**
+     * 한 번에 누적할 사용량.
+     *
+     * @param usageDate        사용 일자
+     * @param userId           사용자 ID
+     * @param provider         공급자 (openai, stub, fallback 등)
+     * @param model            모델명
+     * @param promptVersion    프롬프트 버전
+     * @param calls            호출 수
+     * @param promptTokens     입력 토큰 합
+     * @param completionTokens 출력 토큰 합
+     * @param truncatedCalls   최대 출력 토큰에 도달한 호출 수
+     * @param totalLatencyMs   호출 시간 합 (밀리초)
+     * @param maxLatencyMs     가장 긴 호출 시간 (밀리초)
+     */
+    public record Delta(LocalDate usageDate, Long userId, String provider, String model, String promptVersion,
+                        long calls, long promptTokens, long completionTokens, long truncatedCalls,
+                        long totalLatencyMs, long maxLatencyMs) {
+    }
+}
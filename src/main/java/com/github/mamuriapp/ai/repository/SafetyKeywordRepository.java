@@ -0,0 +1,29 @@
+package com.github.mamuriapp.ai.repository;
+
+import com.github.mamuriapp.ai.entity.SafetyKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 안전 검사 키워드 리포지토리.
+ */
+public interface SafetyKeywordRepository extends JpaRepository<SafetyKeyword, Long> {
+
+    /**
+     * 활성화된 키워드 목록을 조회한다.
+     *
+     * @return 키워드 목록 (ID 순)
+     */
+    List<SafetyKeyword> findByEnabledTrueOrderByIdAsc();
+
+    /**
+     * 현재 사전 버전을 조회한다.
+     * 키워드가 변경될 때마다 DB 트리거가 증가시킨다.
+     *
+     * @return 사전 버전
+     */
+    @Query(value = "SELECT version FROM safety_dictionary_version WHERE id = 1", nativeQuery = true)
+    long findDictionaryVersion();
+}
@@ -0,0 +1,12 @@
+package com.github.mamuriapp.ai.safety;
+
+/**
+ * 키워드 매칭 결과.
+ *
+ * @param keywordIndex 사전에서의 키워드 순번
+ * @param keyword      매칭된 키워드 (사전에 등록된 원형)
+ * @param start        원문에서의 시작 위치 (포함)
+ * @param end          원문에서의 끝 위치 (미포함)
+ */
+public record KeywordMatch(int keywordIndex, String keyword, int start, int end) {
+}
@@ -0,0 +1,223 @@
+package com.github.mamuriapp.ai.safety;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 키워드 매처 (Aho-Corasick 오토마톤).
+ * 생성 시 모든 키워드를 하나의 오토마톤으로 컴파일하고, 검사 시 본문을 한 번만 훑는다.
+ * 공백 문자는 키워드와 본문 양쪽에서 무시하므로 "죽고 싶"은 "죽고싶", "죽고\n싶"과 모두 매칭된다.
+ * 본문을 복사하지 않고 제자리에서 공백을 건너뛰며, 생성 이후에는 불변이라 스레드 간 공유할 수 있다.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_KEYWORD = -1;
+
+    private final String[] keywords;
+
+    /** 상태별 전이 문자 (오름차순, 이진 탐색용) */
+    private final char[][] labels;
+    /** 상태별 전이 대상 상태 */
+    private final int[][] targets;
+    /** 실패 링크 */
+    private final int[] fail;
+    /** 이 상태에서 끝나는 키워드 순번 (없으면 -1) */
+    private final int[] keywordAt;
+    /** 이 상태의 접미사 중 키워드로 끝나는 가장 긴 상태 (없으면 -1) */
+    private final int[] outputLink;
+    /** 상태 깊이 (공백 제외 글자 수) */
+    private final int[] depth;
+    /** 가장 긴 키워드 길이 (공백 제외) */
+    private final int maxDepth;
+
+    private KeywordMatcher(String[] keywords, char[][] labels, int[][] targets, int[] fail,
+                           int[] keywordAt, int[] outputLink, int[] depth, int maxDepth) {
+        this.keywords = keywords;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.keywordAt = keywordAt;
+        this.outputLink = outputLink;
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 키워드 목록으로 매처를 컴파일한다.
+     * 공백 제거 후 같은 키워드가 여러 개면 앞의 것이 보고된다.
+     *
+     * @param keywords 키워드 목록
+     * @return 컴파일된 매처
+     */
+    public static KeywordMatcher compile(List<String> keywords) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> keywordAt = new ArrayList<>();
+        List<Integer> depth = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        keywordAt.add(NO_KEYWORD);
+        depth.add(0);
+
+        int maxDepth = 0;
+        for (int index = 0; index < keywords.size(); index++) {
+            String keyword = keywords.get(index);
+            int state = ROOT;
+            int length = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    continue;
+                }
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    keywordAt.add(NO_KEYWORD);
+                    depth.add(depth.get(state) + 1);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+                length++;
+            }
+            if (length > 0 && keywordAt.get(state) == NO_KEYWORD) {
+                keywordAt.set(state, index);
+            }
+            maxDepth = Math.max(maxDepth, length);
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        int[] keywordAtArray = keywordAt.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, NO_KEYWORD);
+
+        // BFS로 실패 링크와 출력 링크를 계산한다.
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+
+                int f = fail[state];
+                int next = transition(labels, targets, f, c);
+                while (next < 0 && f != ROOT) {
+                    f = fail[f];
+                    next = transition(labels, targets, f, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+
+                int suffix = fail[child];
+                outputLink[child] = keywordAtArray[suffix] != NO_KEYWORD ? suffix : outputLink[suffix];
+                queue[tail++] = child;
+            }
+        }
+
+        return new KeywordMatcher(
+                keywords.toArray(String[]::new), labels, targets, fail, keywordAtArray,
+                outputLink, depth.stream().mapToInt(Integer::intValue).toArray(), maxDepth);
+    }
+
+    /**
+     * 본문에서 가장 먼저 끝나는 키워드를 찾는다.
+     * 매칭되는 즉시 검사를 멈춘다.
+     *
+     * @param text 검사할 본문
+     * @return 첫 매칭 (없으면 null)
+     */
+    public KeywordMatch findFirst(CharSequence text) {
+        List<KeywordMatch> matches = scan(text, true);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * 본문에서 모든 키워드 매칭을 찾는다 (끝 위치 순).
+     *
+     * @param text 검사할 본문
+     * @return 매칭 목록
+     */
+    public List<KeywordMatch> findAll(CharSequence text) {
+        return scan(text, false);
+    }
+
+    /**
+     * 등록된 키워드 수.
+     *
+     * @return 키워드 수
+     */
+    public int size() {
+        return keywords.length;
+    }
+
+    private List<KeywordMatch> scan(CharSequence text, boolean firstOnly) {
+        if (text == null || maxDepth == 0) {
+            return List.of();
+        }
+
+        List<KeywordMatch> matches = null;
+        // 최근 공백 아닌 글자들의 원문 위치 (매칭 시작 위치 계산용 원형 버퍼)
+        int[] positions = new int[maxDepth];
+        int seen = 0;
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            positions[seen % maxDepth] = i;
+            seen++;
+
+            int next = transition(labels, targets, state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(labels, targets, state, c);
+            }
+            state = next < 0 ? ROOT : next;
+
+            int output = keywordAt[state] != NO_KEYWORD ? state : outputLink[state];
+            while (output != NO_KEYWORD) {
+                int keywordIndex = keywordAt[output];
+                int start = positions[(seen - depth[output]) % maxDepth];
+                KeywordMatch match = new KeywordMatch(keywordIndex, keywords[keywordIndex], start, i + 1);
+                if (firstOnly) {
+                    return List.of(match);
+                }
+                if (matches == null) {
+                    matches = new ArrayList<>();
+                }
+                matches.add(match);
+                output = outputLink[output];
+            }
+        }
+        return matches == null ? List.of() : matches;
+    }
+
+    private static int transition(char[][] labels, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index < 0 ? -1 : targets[state][index];
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.mamuriapp.ai.safety;
+
+import java.util.List;
+
+/**
+ * 컴파일된 안전 사전 스냅샷.
+ * 한 번 만들어지면 변경되지 않으며, 사전이 바뀌면 새 스냅샷으로 통째로 교체된다.
+ */
+public final class SafetyDictionary {
+
+    /** DB에서 사전을 읽지 못했을 때 사용하는 기본 사전 버전 */
+    public static final long BUILT_IN_VERSION = -1L;
+
+    private static final List<SafetyKeywordEntry> BUILT_IN_ENTRIES = List.of(
+            new SafetyKeywordEntry("자살", "suicide", 1.0),
+            new SafetyKeywordEntry("자해", "self_harm", 1.0),
+            new SafetyKeywordEntry("죽고 싶", "suicide", 0.9),
+            new SafetyKeywordEntry("죽을 거", "suicide", 0.7),
+            new SafetyKeywordEntry("목숨을 끊", "suicide", 1.0),
+            new SafetyKeywordEntry("끝내고 싶", "suicide", 0.7),
+            new SafetyKeywordEntry("살고 싶지 않", "suicide", 0.9),
+            new SafetyKeywordEntry("세상을 떠나", "suicide", 0.8)
+    );
+
+    private final long version;
+    private final SafetyKeywordEntry[] entries;
+    private final KeywordMatcher matcher;
+
+    private SafetyDictionary(long version, SafetyKeywordEntry[] entries, KeywordMatcher matcher) {
+        this.version = version;
+        this.entries = entries;
+        this.matcher = matcher;
+    }
+
+    /**
+     * 사전 항목으로 스냅샷을 컴파일한다.
+     *
+     * @param version 사전 버전
+     * @param entries 사전 항목
+     * @return 컴파일된 사전
+     */
+    public static SafetyDictionary compile(long version, List<SafetyKeywordEntry> entries) {
+        KeywordMatcher matcher = KeywordMatcher.compile(
+                entries.stream().map(SafetyKeywordEntry::keyword).toList());
+        return new SafetyDictionary(version, entries.toArray(SafetyKeywordEntry[]::new), matcher);
+    }
+
+    /**
+     * 코드에 내장된 기본 사전을 반환한다.
+     * 기동 시 DB를 읽을 수 없을 때만 사용된다.
+     *
+     * @return 기본 사전
+     */
+    public static SafetyDictionary builtIn() {
+        return compile(BUILT_IN_VERSION, BUILT_IN_ENTRIES);
+    }
+
+    /**
+     * 본문에서 가장 먼저 나타나는 사전 항목을 찾는다.
+     *
+     * @param text 검사할 본문
+     * @return 매칭 결과 (없으면 null)
+     */
+    public Match findFirst(CharSequence text) {
+        KeywordMatch match = matcher.findFirst(text);
+        return match == null ? null : new Match(entries[match.keywordIndex()], match);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * 사전 매칭 결과.
+     *
+     * @param entry    매칭된 사전 항목
+     * @param position 원문에서의 위치
+     */
+    public record Match(SafetyKeywordEntry entry, KeywordMatch position) {
+    }
+}
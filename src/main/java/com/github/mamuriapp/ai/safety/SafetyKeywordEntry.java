@@ -0,0 +1,11 @@
+package com.github.mamuriapp.ai.safety;
+
+/**
+ * 안전 사전 항목.
+ *
+ * @param keyword  키워드
+ * @param category 위험 유형 (SafetyEvent.eventType)
+ * @param weight   감지 신뢰도 (SafetyEvent.confidenceScore)
+ */
+public record SafetyKeywordEntry(String keyword, String category, double weight) {
+}
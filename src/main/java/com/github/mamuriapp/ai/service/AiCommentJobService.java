@@ -0,0 +1,156 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.entity.AiCommentJob;
+import com.github.mamuriapp.ai.entity.AiCommentStatus;
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.repository.AiCommentJobRepository;
+import com.github.mamuriapp.ai.repository.AiCommentRepository;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 코멘트 생성 작업 서비스.
+ * 작업 테이블을 통해 일기 저장과 AI 코멘트 생성을 분리한다.
+ * 각 메서드는 짧은 트랜잭션만 열고, LLM 호출은 트랜잭션 밖의 워커에서 수행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiCommentJobService {
+
+    private final AiCommentJobRepository aiCommentJobRepository;
+    private final AiCommentRepository aiCommentRepository;
+    private final AiCommentService aiCommentService;
+    private final AiProperties aiProperties;
+
+    /**
+     * 일기에 대한 코멘트 생성 작업을 등록한다.
+     * 호출자의 트랜잭션에 참여하므로 일기와 작업이 함께 커밋된다.
+     *
+     * @param diary 대상 일기
+     * @return 대기 상태 응답
+     */
+    @Transactional
+    public AiCommentResponse enqueue(Diary diary) {
+        aiCommentJobRepository.findByDiaryId(diary.getId())
+                .ifPresentOrElse(AiCommentJob::reset,
+                        () -> aiCommentJobRepository.save(AiCommentJob.builder().diary(diary).build()));
+        return AiCommentResponse.ofStatus(AiCommentStatus.PENDING);
+    }
+
+    /**
+     * 새로 만든 일기들의 코멘트 생성 작업을 한 번에 등록한다.
+     * 기존 작업을 조회하지 않으므로 같은 트랜잭션에서 막 저장한 일기에만 사용한다.
+     * 호출자의 트랜잭션에 참여하며, 작업 INSERT는 커밋 시점에 JDBC 배치로 묶인다.
+     *
+     * @param diaries 새로 만든 일기 목록
+     * @return 대기 상태 응답
+     */
+    @Transactional
+    public AiCommentResponse enqueueAll(List<Diary> diaries) {
+        aiCommentJobRepository.saveAll(diaries.stream()
+                .map(diary -> AiCommentJob.builder().diary(diary).build())
+                .toList());
+        return AiCommentResponse.ofStatus(AiCommentStatus.PENDING);
+    }
+
+    /**
+     * 처리할 작업을 가져와 처리 중 상태로 표시한다.
+     *
+     * @param limit 최대 작업 수
+     * @return 가져온 작업 ID 목록
+     */
+    @Transactional
+    public List<Long> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(aiProperties.getAsync().getStaleAfterSeconds());
+        List<AiCommentJob> jobs = aiCommentJobRepository.findClaimable(now, staleBefore, limit);
+        jobs.forEach(AiCommentJob::markProcessing);
+        return jobs.stream().map(AiCommentJob::getId).toList();
+    }
+
+    /**
+     * 작업 대상 일기를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @return 일기 Optional (그 사이 일기가 삭제되었으면 비어 있음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Diary> findDiary(Long jobId) {
+        return aiCommentJobRepository.findWithDiaryById(jobId).map(AiCommentJob::getDiary);
+    }
+
+    /**
+     * 생성된 코멘트를 저장하고 작업을 완료 처리한다.
+     *
+     * @param jobId    작업 ID
+     * @param diary    대상 일기
+     * @param composed 생성된 코멘트
+     */
+    @Transactional
+    public void complete(Long jobId, Diary diary, LlmResponse composed) {
+        aiCommentService.saveComment(diary, composed);
+        aiCommentJobRepository.findById(jobId).ifPresent(AiCommentJob::markCompleted);
+    }
+
+    /**
+     * 호출 한도 초과로 작업을 미룬다. 설정된 지연(ai.rate-limit.defer-delay-ms)이 지난 뒤의 폴링에서 다시 가져간다.
+     *
+     * @param jobId 작업 ID
+     */
+    @Transactional
+    public void defer(Long jobId) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now()
+                .plus(Duration.ofMillis(aiProperties.getRateLimit().getDeferDelayMs()));
+        aiCommentJobRepository.findById(jobId).ifPresent(job -> job.defer(nextAttemptAt));
+    }
+
+    /**
+     * 작업 실패를 기록한다. 재시도할 작업은 지수적으로 늘어나는 간격(ai.async.retry-backoff-ms부터
+     * ai.async.max-retry-backoff-ms까지) 뒤의 폴링에서 다시 가져간다.
+     *
+     * @param jobId 작업 ID
+     * @param error 실패 사유
+     */
+    @Transactional
+    public void fail(Long jobId, String error) {
+        aiCommentJobRepository.findById(jobId).ifPresent(job -> {
+            AiProperties.Async async = aiProperties.getAsync();
+            job.markFailed(error, async.getMaxAttempts(),
+                    Duration.ofMillis(async.getRetryBackoffMs()), Duration.ofMillis(async.getMaxRetryBackoffMs()));
+            log.warn("AI 코멘트 작업 실패 (jobId={}, attempts={}, status={}): {}",
+                    jobId, job.getAttempts(), job.getStatus(), error);
+        });
+    }
+
+    /**
+     * 일기의 AI 코멘트 생성 상태를 조회한다.
+     * 코멘트가 있으면 코멘트를, 없으면 작업 상태를 반환한다.
+     *
+     * @param diaryId 일기 ID
+     * @return AI 코멘트 응답
+     * @throws CustomException 코멘트도 작업도 없으면 AI_COMMENT_NOT_FOUND
+     */
+    @Transactional(readOnly = true)
+    public AiCommentResponse getStatus(Long diaryId) {
+        Optional<AiCommentJob> job = aiCommentJobRepository.findByDiaryId(diaryId);
+        if (job.isPresent() && job.get().getStatus() != AiCommentStatus.COMPLETED) {
+            return AiCommentResponse.ofStatus(job.get().getStatus());
+        }
+        return aiCommentRepository.findByDiaryId(diaryId)
+                .map(AiCommentResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.AI_COMMENT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.global.config.ThreadingConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 코멘트 비동기 생성 워커.
+ * 작업 테이블을 주기적으로 폴링해 고정 크기 워커 풀에서 코멘트를 생성한다.
+ * 일기 일괄 쓰기는 ai.async.enabled와 무관하게 작업을 등록하므로 워커는 항상 동작한다.
+ * 빈 워커 수만큼만 작업을 가져가므로 큐가 메모리에 쌓이지 않는다.
+ */
+@Slf4j
+@Component
+public class AiCommentJobWorker {
+
+    private final AiCommentJobService aiCommentJobService;
+    private final AiCommentService aiCommentService;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final AiProperties.RateLimit.LimitAction onLimit;
+
+    public AiCommentJobWorker(AiCommentJobService aiCommentJobService,
+                              AiCommentService aiCommentService,
+                              AiProperties aiProperties,
+                              ThreadingConfig threadingConfig) {
+        this.aiCommentJobService = aiCommentJobService;
+        this.aiCommentService = aiCommentService;
+
+        int workerThreads = aiProperties.getAsync().getWorkerThreads();
+        this.executor = threadingConfig.newExecutor("ai-comment-", workerThreads);
+        this.permits = new Semaphore(workerThreads);
+        this.onLimit = aiProperties.getRateLimit().getOnLimit();
+    }
+
+    /**
+     * 빈 워커 수만큼 작업을 가져와 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${ai.async.poll-interval-ms:500}")
+    public void poll() {
+        int available = permits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<Long> jobIds;
+        try {
+            jobIds = aiCommentJobService.claim(available);
+        } catch (Exception e) {
+            log.warn("AI 코멘트 작업 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Long jobId : jobIds) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    private void process(Long jobId) {
+        try {
+            Optional<Diary> diary = aiCommentJobService.findDiary(jobId);
+            if (diary.isEmpty()) {
+                return;
+            }
+            // LLM 호출은 트랜잭션 밖에서 수행해 커넥션을 점유하지 않는다.
+            Optional<LlmResponse> composed = aiCommentService.composeComment(diary.get());
+            if (composed.isPresent() && composed.get().isFallback()) {
+                // 장애 대체 문구는 저장하지 않고 실패로 기록해 최대 시도 횟수 안에서 다시 생성한다.
+                aiCommentJobService.fail(jobId, "LLM 대체 응답");
+            } else if (composed.isPresent()) {
+                aiCommentJobService.complete(jobId, diary.get(), composed.get());
+            } else if (onLimit == AiProperties.RateLimit.LimitAction.DEFER) {
+                aiCommentJobService.defer(jobId);
+            } else {
+                aiCommentJobService.complete(jobId, diary.get(), AiCommentService.STUB_COMMENT);
+            }
+        } catch (Exception e) {
+            aiCommentJobService.fail(jobId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
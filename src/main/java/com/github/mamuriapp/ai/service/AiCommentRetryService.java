@@ -0,0 +1,173 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.entity.AiCommentStatus;
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.ratelimit.LlmRateLimiter;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * AI 코멘트 재시도 서비스.
+ * 같은 일기에 대한 동시 재시도와 스트리밍 생성을 하나의 LLM 호출로 병합하고(single-flight),
+ * 재생성 직후 쿨다운 동안에는 새로 생성하지 않고 직전 결과를 반환한다.
+ * LLM 호출은 트랜잭션 밖에서 수행하고 저장만 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+public class AiCommentRetryService {
+
+    private static final long MAX_RECENT_ENTRIES = 10_000;
+
+    private final AiCommentService aiCommentService;
+    private final LlmRateLimiter llmRateLimiter;
+    private final ConcurrentMap<Long, CompletableFuture<AiCommentResponse>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Cache<Long, AiCommentResponse> recent;
+
+    public AiCommentRetryService(AiCommentService aiCommentService,
+                                 LlmRateLimiter llmRateLimiter,
+                                 AiProperties aiProperties) {
+        this.aiCommentService = aiCommentService;
+        this.llmRateLimiter = llmRateLimiter;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(MAX_RECENT_ENTRIES)
+                .expireAfterWrite(Duration.ofSeconds(aiProperties.getRetry().getCooldownSeconds()))
+                .build();
+    }
+
+    /**
+     * AI 코멘트를 재생성한다.
+     * 진행 중인 재생성이 있으면 그 결과를 기다려 반환하고,
+     * 쿨다운 중이면 직전 결과를 반환한다.
+     *
+     * @param diary 대상 일기
+     * @return 재생성된 AI 코멘트 응답
+     * @throws CustomException LLM 호출 한도를 넘었으면 AI_RATE_LIMITED,
+     *                         LLM 장애로 대체 문구만 받았으면 AI_SERVICE_ERROR
+     */
+    public AiCommentResponse retry(Diary diary) {
+        Long diaryId = diary.getId();
+
+        AiCommentResponse cooled = recent.getIfPresent(diaryId);
+        if (cooled != null) {
+            log.debug("재시도 쿨다운 중, 직전 결과 반환 (diaryId={})", diaryId);
+            return cooled;
+        }
+
+        AiCommentResponse response = singleFlight(diaryId, () -> {
+            // 조회와 등록 사이에 앞선 재시도가 끝났을 수 있다.
+            AiCommentResponse regenerated = recent.getIfPresent(diaryId);
+            if (regenerated == null) {
+                regenerated = regenerate(diary);
+                recent.put(diaryId, regenerated);
+            }
+            return regenerated;
+        });
+        if (response.getStatus() == AiCommentStatus.FAILED) {
+            // 합류한 스트리밍이 대체 문구만 받았다.
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+        return response;
+    }
+
+    /**
+     * AI 코멘트를 스트리밍으로 생성해 저장한다.
+     * 같은 일기의 재시도나 다른 스트리밍이 진행 중이면 새로 생성하지 않고 그 결과를 기다려 반환하며,
+     * 이때 텍스트 조각은 전달되지 않는다.
+     * LLM 장애로 대체 문구를 받으면 저장하지 않고 FAILED 상태의 응답을 반환한다.
+     *
+     * @param diary   대상 일기
+     * @param onChunk 텍스트 조각 수신 콜백
+     * @return 저장된 AI 코멘트 응답
+     * @throws CustomException LLM 호출 한도를 넘었으면 AI_RATE_LIMITED
+     */
+    public AiCommentResponse stream(Diary diary, Consumer<String> onChunk) {
+        return singleFlight(diary.getId(), () -> {
+            LlmResponse composed = aiCommentService.composeCommentStreaming(diary, onChunk);
+            return composed.isFallback()
+                    ? AiCommentResponse.unsaved(composed.content())
+                    : save(diary, composed);
+        });
+    }
+
+    /**
+     * 쿨다운 결과를 제거한다. 일기 내용이 바뀌면 바로 다시 생성할 수 있어야 한다.
+     *
+     * @param diaryId 일기 ID
+     */
+    public void evict(Long diaryId) {
+        recent.invalidate(diaryId);
+    }
+
+    private AiCommentResponse regenerate(Diary diary) {
+        if (!llmRateLimiter.tryAcquire(diary.getUser().getId(), diary)) {
+            throw new CustomException(ErrorCode.AI_RATE_LIMITED);
+        }
+        LlmResponse composed = aiCommentService.regenerateComment(diary);
+        if (composed.isFallback()) {
+            // 대체 문구로 기존 코멘트를 덮어쓰지 않고, 쿨다운에도 남기지 않는다.
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+        return save(diary, composed);
+    }
+
+    /**
+     * 같은 일기에 대해 진행 중인 생성이 있으면 그 결과를 기다리고, 없으면 직접 생성해 결과를 공유한다.
+     */
+    private AiCommentResponse singleFlight(Long diaryId, Supplier<AiCommentResponse> generation) {
+        CompletableFuture<AiCommentResponse> flight = new CompletableFuture<>();
+        CompletableFuture<AiCommentResponse> existing = inFlight.putIfAbsent(diaryId, flight);
+        if (existing != null) {
+            log.debug("진행 중인 생성에 합류 (diaryId={})", diaryId);
+            return await(existing);
+        }
+
+        try {
+            AiCommentResponse response = generation.get();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(diaryId, flight);
+        }
+    }
+
+    private AiCommentResponse save(Diary diary, LlmResponse composed) {
+        try {
+            return aiCommentService.saveComment(diary, composed);
+        } catch (DataIntegrityViolationException e) {
+            // 비동기 워커 등 다른 경로가 먼저 코멘트를 삽입했다. 이번에는 갱신으로 저장된다.
+            log.debug("AI 코멘트 동시 삽입 감지, 갱신으로 재저장 (diaryId={})", diary.getId());
+            return aiCommentService.saveComment(diary, composed);
+        }
+    }
+
+    private static AiCommentResponse await(CompletableFuture<AiCommentResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
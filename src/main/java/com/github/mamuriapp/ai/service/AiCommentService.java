@@ -3,21 +3,29 @@ package com.github.mamuriapp.ai.service;
 import com.github.mamuriapp.ai.config.AiProperties;
 import com.github.mamuriapp.ai.dto.AiCommentResponse;
 import com.github.mamuriapp.ai.entity.AiComment;
+import com.github.mamuriapp.ai.prompt.CompiledPrompt;
+import com.github.mamuriapp.ai.prompt.PromptMetrics;
+import com.github.mamuriapp.ai.prompt.PromptRegistry;
 import com.github.mamuriapp.ai.provider.LlmProvider;
 import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.provider.LocalStubProvider;
+import com.github.mamuriapp.ai.ratelimit.LlmRateLimiter;
 import com.github.mamuriapp.ai.repository.AiCommentRepository;
+import com.github.mamuriapp.ai.token.TokenEstimator;
 import com.github.mamuriapp.diary.entity.Diary;
 import com.github.mamuriapp.global.exception.CustomException;
 import com.github.mamuriapp.global.exception.ErrorCode;
-import jakarta.annotation.PostConstruct;
+import com.github.mamuriapp.user.service.UserSettingsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * AI 코멘트 서비스.
@@ -32,51 +40,44 @@ public class AiCommentService {
     private final SafetyCheckService safetyCheckService;
     private final LlmProvider llmProvider;
     private final AiProperties aiProperties;
-
-    private String promptTemplate;
-
-    @PostConstruct
-    void loadPromptTemplate() {
-        String path = "prompts/ai_comment_" + aiProperties.getPromptVersion() + ".txt";
-        try {
-            promptTemplate = new ClassPathResource(path)
-                    .getContentAsString(StandardCharsets.UTF_8);
-            log.info("프롬프트 템플릿 로드 완료: {}", path);
-        } catch (IOException e) {
-            throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: " + path, e);
-        }
-    }
+    private final LlmRateLimiter llmRateLimiter;
+    private final PromptRegistry promptRegistry;
+    private final PromptMetrics promptMetrics;
+    private final UserSettingsService userSettingsService;
+    private final TokenEstimator tokenEstimator;
+    private final LlmUsageService llmUsageService;
+
+    private static final String SAFETY_MESSAGE = "힘든 시간을 보내고 계시는군요. "
+            + "혼자 감당하지 않아도 괜찮아요. "
+            + "전문적인 도움을 받을 수 있는 곳에 연락해 보시는 건 어떨까요? "
+            + "(자살예방상담전화 1393, 정신건강위기상담전화 1577-0199)";
+    private static final String SAFETY_MODEL_NAME = "safety-override";
+
+    /** 호출 한도 초과 시 LLM 대신 저장하는 스텁 코멘트 */
+    public static final LlmResponse STUB_COMMENT = LlmResponse.fallback(LocalStubProvider.CONTENT);
 
     /**
      * 일기에 대한 AI 코멘트를 생성한다.
      * 안전 검사를 먼저 수행하고, 위기 신호 시 안전 메시지로 대체한다.
+     * LLM 호출 한도를 넘으면 스텁 코멘트를 저장한다.
+     * LLM 장애로 대체 문구를 받으면 저장하지 않고 FAILED 상태로 돌려주어 재시도로 다시 생성하게 한다.
      *
      * @param diary 코멘트를 생성할 일기
      * @return AI 코멘트 응답
      */
     @Transactional
     public AiCommentResponse generateComment(Diary diary) {
-        boolean isSafe = safetyCheckService.check(diary);
-
-        String content;
-        String modelName;
-
-        if (!isSafe) {
-            content = "힘든 시간을 보내고 계시는군요. "
-                    + "혼자 감당하지 않아도 괜찮아요. "
-                    + "전문적인 도움을 받을 수 있는 곳에 연락해 보시는 건 어떨까요? "
-                    + "(자살예방상담전화 1393, 정신건강위기상담전화 1577-0199)";
-            modelName = "safety-override";
-        } else {
-            LlmResponse response = callLlm(diary);
-            content = response.content();
-            modelName = response.modelName();
+        Optional<LlmResponse> generated = composeComment(diary);
+        if (generated.isPresent() && generated.get().isFallback()) {
+            log.warn("LLM 대체 응답은 코멘트로 저장하지 않음 (diaryId={})", diary.getId());
+            return AiCommentResponse.unsaved(generated.get().content());
         }
+        LlmResponse composed = generated.orElse(STUB_COMMENT);
 
         AiComment aiComment = AiComment.builder()
                 .diary(diary)
-                .content(content)
-                .modelName(modelName)
+                .content(composed.content())
+                .modelName(composed.modelName())
                 .promptVersion(aiProperties.getPromptVersion())
                 .build();
         aiCommentRepository.save(aiComment);
@@ -85,38 +86,69 @@ public class AiCommentService {
     }
 
     /**
-     * 일기 ID로 AI 코멘트를 조회한다.
+     * 안전 검사와 LLM 호출로 코멘트 내용을 만든다.
+     * 저장은 하지 않으며, 비동기 워커는 이 결과를 {@link #saveComment}로 따로 저장해
+     * LLM 호출 동안 DB 커넥션을 점유하지 않는다.
      *
-     * @param diaryId 일기 ID
-     * @return AI 코멘트 응답 (없으면 null)
+     * 안전 검사는 호출 한도와 무관하게 먼저 수행하므로 위기 신호 응답은 한도에 막히지 않는다.
+     *
+     * @param diary 코멘트를 생성할 일기
+     * @return 생성된 코멘트 (위기 신호 시 안전 메시지), LLM 호출 한도를 넘었으면 빈 값
      */
-    @Transactional(readOnly = true)
-    public AiCommentResponse getComment(Long diaryId) {
-        return aiCommentRepository.findByDiaryId(diaryId)
-                .map(AiCommentResponse::from)
-                .orElse(null);
+    public Optional<LlmResponse> composeComment(Diary diary) {
+        if (!safetyCheckService.check(diary)) {
+            return Optional.of(new LlmResponse(SAFETY_MESSAGE, SAFETY_MODEL_NAME));
+        }
+        if (!llmRateLimiter.tryAcquire(diary.getUser().getId(), diary)) {
+            return Optional.empty();
+        }
+        return Optional.of(callLlm(diary));
     }
 
     /**
-     * AI 코멘트를 재생성한다 (재시도).
+     * {@link #composeComment}의 스트리밍 버전.
+     * 생성되는 텍스트 조각을 도착하는 대로 전달하고, 완료 후 전체 코멘트를 반환한다.
+     * 위기 신호 시 안전 메시지를 한 조각으로 전달한다.
      *
-     * @param diaryId 일기 ID
-     * @param diary   일기 엔티티
-     * @return 재생성된 AI 코멘트 응답
+     * @param diary   코멘트를 생성할 일기
+     * @param onChunk 텍스트 조각 수신 콜백
+     * @return 생성된 전체 코멘트
+     * @throws CustomException LLM 호출 한도를 넘었으면 AI_RATE_LIMITED
      */
-    @Transactional
-    public AiCommentResponse retryComment(Long diaryId, Diary diary) {
-        LlmResponse response = callLlm(diary);
+    public LlmResponse composeCommentStreaming(Diary diary, Consumer<String> onChunk) {
+        if (!safetyCheckService.check(diary)) {
+            onChunk.accept(SAFETY_MESSAGE);
+            return new LlmResponse(SAFETY_MESSAGE, SAFETY_MODEL_NAME);
+        }
+        if (!llmRateLimiter.tryAcquire(diary.getUser().getId(), diary)) {
+            throw new CustomException(ErrorCode.AI_RATE_LIMITED);
+        }
+        RenderedPrompt prompt = renderPrompt(diary);
+        long start = System.nanoTime();
+        LlmResponse response = llmProvider.stream(prompt.text(), aiProperties.getMaxOutputTokens(), onChunk);
+        recordCall(diary, prompt, System.nanoTime() - start, response);
+        return response;
+    }
 
-        AiComment aiComment = aiCommentRepository.findByDiaryId(diaryId)
+    /**
+     * 생성된 코멘트를 저장한다. 이미 코멘트가 있으면 내용을 갱신한다.
+     * LLM 장애 대체 응답({@link LlmResponse#isFallback()})은 호출자가 걸러서 넘기지 않는다.
+     *
+     * @param diary    대상 일기
+     * @param composed 생성된 코멘트
+     * @return AI 코멘트 응답
+     */
+    @Transactional
+    public AiCommentResponse saveComment(Diary diary, LlmResponse composed) {
+        AiComment aiComment = aiCommentRepository.findByDiaryId(diary.getId())
                 .map(existing -> {
-                    existing.updateContent(response.content());
+                    existing.updateContent(composed.content());
                     return existing;
                 })
                 .orElseGet(() -> AiComment.builder()
                         .diary(diary)
-                        .content(response.content())
-                        .modelName(response.modelName())
+                        .content(composed.content())
+                        .modelName(composed.modelName())
                         .promptVersion(aiProperties.getPromptVersion())
                         .build());
 
@@ -124,16 +156,85 @@ public class AiCommentService {
         return AiCommentResponse.from(aiComment);
     }
 
+    /**
+     * 일기 ID로 AI 코멘트를 조회한다.
+     *
+     * @param diaryId 일기 ID
+     * @return AI 코멘트 응답 (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public AiCommentResponse getComment(Long diaryId) {
+        return aiCommentRepository.findByDiaryId(diaryId)
+                .map(AiCommentResponse::from)
+                .orElse(null);
+    }
+
+    /**
+     * 여러 일기의 AI 코멘트를 한 번에 조회한다.
+     * 목록 조회 시 일기별 N+1 조회를 피하기 위해 사용한다.
+     *
+     * @param diaryIds 일기 ID 목록
+     * @return 일기 ID별 AI 코멘트 응답 (코멘트가 없는 일기는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, AiCommentResponse> getComments(Collection<Long> diaryIds) {
+        if (diaryIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, AiCommentResponse> comments = new HashMap<>();
+        for (AiComment aiComment : aiCommentRepository.findByDiaryIdIn(diaryIds)) {
+            comments.put(aiComment.getDiary().getId(), AiCommentResponse.from(aiComment));
+        }
+        return comments;
+    }
+
+    /**
+     * 재시도용으로 LLM을 다시 호출해 코멘트 내용을 만든다.
+     * 저장은 하지 않으며, 동시 재시도 병합과 저장은 {@link AiCommentRetryService}가 담당한다.
+     *
+     * @param diary 일기 엔티티
+     * @return 재생성된 코멘트
+     */
+    public LlmResponse regenerateComment(Diary diary) {
+        return callLlm(diary);
+    }
+
     private LlmResponse callLlm(Diary diary) {
-        String diaryContent = truncate(diary.getContent(), aiProperties.getMaxInputChars());
-        String prompt = promptTemplate.replace("{{content}}", diaryContent);
-        return llmProvider.generate(prompt, aiProperties.getMaxOutputTokens());
+        RenderedPrompt prompt = renderPrompt(diary);
+        long start = System.nanoTime();
+        LlmResponse response = llmProvider.generate(prompt.text(), aiProperties.getMaxOutputTokens());
+        recordCall(diary, prompt, System.nanoTime() - start, response);
+        return response;
+    }
+
+    private void recordCall(Diary diary, RenderedPrompt prompt, long latencyNanos, LlmResponse response) {
+        promptMetrics.record(prompt.template(), prompt.estimatedTokens(), latencyNanos, response);
+        llmUsageService.record(diary.getUser().getId(), prompt.template().version(), response);
     }
 
-    private String truncate(String text, int maxChars) {
-        if (text == null || text.length() <= maxChars) {
-            return text;
+    /**
+     * 사용자 톤에 맞는 템플릿을 골라 토큰 예산 안으로 자른 본문을 채운다.
+     * 본문 예산은 min(maxInputTokens, contextLimit - 템플릿 토큰 - maxOutputTokens)이며,
+     * 예산을 넘는 본문은 문장 경계에서 자른다.
+     */
+    private RenderedPrompt renderPrompt(Diary diary) {
+        String tone = userSettingsService.getAiTone(diary.getUser().getId());
+        CompiledPrompt template = promptRegistry.get(aiProperties.getPromptVersion(), tone);
+
+        AiProperties.Tokens tokens = aiProperties.getTokens();
+        int templateTokens = tokenEstimator.countTemplate(template);
+        int budget = Math.min(tokens.getMaxInputTokens(),
+                tokens.getContextLimit() - templateTokens - aiProperties.getMaxOutputTokens());
+
+        String content = diary.getContent() == null ? "" : diary.getContent();
+        int contentTokens = tokenEstimator.countDiary(diary);
+        if (contentTokens > budget) {
+            content = tokenEstimator.truncate(content, budget);
+            contentTokens = tokenEstimator.count(content);
         }
-        return text.substring(0, maxChars);
+        return new RenderedPrompt(template, template.render(content), templateTokens + contentTokens);
+    }
+
+    private record RenderedPrompt(CompiledPrompt template, String text, int estimatedTokens) {
     }
 }
@@ -0,0 +1,131 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.global.config.ThreadingConfig;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * AI 코멘트 SSE 스트리밍 서비스.
+ * 생성되는 텍스트 조각을 token 이벤트로 즉시 전송하고,
+ * 생성이 끝나면 전체 코멘트를 저장한 뒤 done 이벤트로 전송한다.
+ * 생성과 저장은 {@link AiCommentRetryService}를 거치므로 같은 일기의 재시도·다른 스트리밍과 LLM 호출이 병합된다.
+ * LLM 장애로 대체 문구를 받으면 저장하지 않고 FAILED 상태의 응답을 done 이벤트로 전송한다.
+ */
+@Slf4j
+@Service
+public class AiCommentStreamService {
+
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+
+    private final AiCommentRetryService aiCommentRetryService;
+    private final AiProperties aiProperties;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AiCommentStreamService(AiCommentRetryService aiCommentRetryService, AiProperties aiProperties,
+                                  ThreadingConfig threadingConfig) {
+        this.aiCommentRetryService = aiCommentRetryService;
+        this.aiProperties = aiProperties;
+
+        // 가상 스레드 모드에서도 동시 스트리밍 수가 같도록 스레드 수가 아닌 세마포어로 제한한다.
+        int maxConcurrent = aiProperties.getStreaming().getMaxConcurrent();
+        this.executor = threadingConfig.newExecutor("ai-stream-", maxConcurrent);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 일기에 대한 AI 코멘트를 스트리밍으로 생성한다.
+     * 클라이언트 연결이 끊겨도 생성은 끝까지 진행하여 결과를 저장한다.
+     *
+     * @param diary 대상 일기
+     * @return SSE emitter
+     * @throws CustomException 동시 스트리밍 한도를 넘으면 AI_SERVICE_ERROR
+     */
+    public SseEmitter stream(Diary diary) {
+        if (!permits.tryAcquire()) {
+            log.warn("AI 스트리밍 동시 실행 한도 초과 (diaryId={})", diary.getId());
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+        SseEmitter emitter = new SseEmitter(aiProperties.getStreaming().getTimeoutMs());
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(diary, emitter);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+        return emitter;
+    }
+
+    private void generate(Diary diary, SseEmitter emitter) {
+        ClientChannel channel = new ClientChannel(emitter);
+        try {
+            AiCommentResponse saved = aiCommentRetryService.stream(
+                    diary, chunk -> channel.send(EVENT_TOKEN, chunk, MediaType.TEXT_PLAIN));
+            channel.send(EVENT_DONE, saved, MediaType.APPLICATION_JSON);
+            channel.complete();
+        } catch (Exception e) {
+            log.warn("AI 코멘트 스트리밍 실패 (diaryId={}): {}", diary.getId(), e.getMessage());
+            ErrorCode errorCode = e instanceof CustomException customException
+                    ? customException.getErrorCode()
+                    : ErrorCode.AI_SERVICE_ERROR;
+            channel.send(EVENT_ERROR, errorCode.getMessage(), MediaType.TEXT_PLAIN);
+            channel.complete();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 클라이언트가 연결을 끊은 뒤에는 전송을 건너뛰는 SSE 래퍼.
+     */
+    private static final class ClientChannel {
+
+        private final SseEmitter emitter;
+        private boolean open = true;
+
+        ClientChannel(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void send(String name, Object data, MediaType mediaType) {
+            if (!open) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, mediaType));
+            } catch (IOException | IllegalStateException e) {
+                open = false;
+            }
+        }
+
+        void complete() {
+            if (open) {
+                emitter.complete();
+            }
+        }
+    }
+}
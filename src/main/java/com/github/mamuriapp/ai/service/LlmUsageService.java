@@ -0,0 +1,234 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.dto.LlmUsageDailyResponse;
+import com.github.mamuriapp.ai.dto.LlmUsageUserResponse;
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.repository.LlmUsageRepository;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LLM 사용량 집계 서비스.
+ * 호출마다 공급자·모델·프롬프트 버전 태그로 지연과 토큰 지표를 기록하고,
+ * 캐시 적중은 실제 공급자의 지연 분포를 흐리지 않도록 공급자를 cache로 따로 기록한다.
+ * (날짜, 사용자, 공급자, 모델, 프롬프트 버전)별 합계를 메모리에 모았다가 주기적으로 한 번의 배치로 DB에 누적한다.
+ * 요청 스레드는 메모리 합산만 하므로 호출당 DB 쓰기가 생기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmUsageService {
+
+    /** 조회 가능한 최대 기간 (일) */
+    private static final int MAX_RANGE_DAYS = 366;
+    /** 기간 미지정 시 조회 기간 (일) */
+    private static final int DEFAULT_RANGE_DAYS = 7;
+    private static final int MAX_TOP_USERS = 100;
+    /** 캐시에서 응답한 호출의 공급자 태그 */
+    private static final String CACHE_PROVIDER = "cache";
+
+    private static final Comparator<LlmUsageRepository.Delta> KEY_ORDER =
+            Comparator.comparing(LlmUsageRepository.Delta::usageDate)
+                    .thenComparing(LlmUsageRepository.Delta::userId)
+                    .thenComparing(LlmUsageRepository.Delta::provider)
+                    .thenComparing(LlmUsageRepository.Delta::model)
+                    .thenComparing(LlmUsageRepository.Delta::promptVersion);
+
+    private final LlmUsageRepository llmUsageRepository;
+    private final AiProperties aiProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<UsageKey, UsageTotals> pending = new ConcurrentHashMap<>();
+    /** 배치 반영은 JDBC 호출을 포함하므로 락으로 직렬화한다. */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * LLM 호출 한 건의 사용량을 기록한다.
+     *
+     * @param userId        사용자 ID
+     * @param promptVersion 프롬프트 버전
+     * @param response      LLM 응답
+     */
+    public void record(Long userId, String promptVersion, LlmResponse response) {
+        String provider = response.isFallback() ? LlmResponse.FALLBACK_MODEL_NAME
+                : response.cacheHit() ? CACHE_PROVIDER
+                : aiProperties.getProvider();
+        String model = response.modelName();
+
+        Timer.builder("llm.call.latency")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("prompt_version", promptVersion)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(response.latencyMs(), TimeUnit.MILLISECONDS);
+        if (response.hasUsage()) {
+            recordTokens(provider, model, promptVersion, "prompt", response.promptTokens());
+            recordTokens(provider, model, promptVersion, "completion", response.completionTokens());
+        }
+        if (response.finishReason() != null) {
+            meterRegistry.counter("llm.call.finish",
+                    "provider", provider, "model", model, "reason", response.finishReason()).increment();
+        }
+
+        if (aiProperties.getUsage().isEnabled()) {
+            pending.merge(new UsageKey(LocalDate.now(), userId, provider, model, promptVersion),
+                    UsageTotals.of(response), UsageTotals::plus);
+        }
+    }
+
+    private void recordTokens(String provider, String model, String promptVersion, String type, int tokens) {
+        DistributionSummary.builder("llm.call.tokens")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("prompt_version", promptVersion)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(tokens);
+    }
+
+    /**
+     * 모아 둔 사용량을 DB에 누적한다. 일시적인 실패면 다음 주기에 다시 시도하도록 메모리에 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${ai.usage.flush-interval-ms:10000}",
+               initialDelayString = "${ai.usage.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<LlmUsageRepository.Delta> deltas = new ArrayList<>(pending.size());
+            for (UsageKey key : pending.keySet()) {
+                UsageTotals totals = pending.remove(key);
+                if (totals != null) {
+                    deltas.add(totals.toDelta(key));
+                }
+            }
+            deltas.sort(KEY_ORDER);
+
+            try {
+                llmUsageRepository.addAll(deltas);
+                log.debug("LLM 사용량 반영 (rows={})", deltas.size());
+            } catch (DataIntegrityViolationException e) {
+                // 집계 중 탈퇴한 사용자 등 다시 시도해도 실패할 배치는 버린다.
+                log.warn("LLM 사용량 반영 실패, 배치 폐기 (rows={}): {}", deltas.size(), e.getMessage());
+            } catch (Exception e) {
+                log.warn("LLM 사용량 반영 실패, 다음 주기에 재시도 (rows={}): {}", deltas.size(), e.getMessage());
+                for (LlmUsageRepository.Delta delta : deltas) {
+                    pending.merge(UsageKey.of(delta), UsageTotals.of(delta), UsageTotals::plus);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 기간 내 일자별 사용량을 조회한다.
+     *
+     * @param userId 사용자 ID (없으면 전체 사용자 합산)
+     * @param from   시작일 (없으면 종료일 기준 최근 7일)
+     * @param to     종료일 (없으면 오늘)
+     * @return 일자·공급자·모델·프롬프트 버전별 사용량
+     */
+    public List<LlmUsageDailyResponse> getDaily(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+        return userId == null
+                ? llmUsageRepository.findDaily(start, end)
+                : llmUsageRepository.findDailyByUser(userId, start, end);
+    }
+
+    /**
+     * 기간 내 토큰 사용량 상위 사용자를 조회한다.
+     *
+     * @param from  시작일 (없으면 종료일 기준 최근 7일)
+     * @param to    종료일 (없으면 오늘)
+     * @param limit 최대 사용자 수 (1~100)
+     * @return 사용자별 사용량
+     */
+    public List<LlmUsageUserResponse> getTopUsers(LocalDate from, LocalDate to, int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+        if (limit < 1 || limit > MAX_TOP_USERS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return llmUsageRepository.findTopUsers(start, end, limit);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private record UsageKey(LocalDate usageDate, Long userId, String provider, String model, String promptVersion) {
+
+        static UsageKey of(LlmUsageRepository.Delta delta) {
+            return new UsageKey(delta.usageDate(), delta.userId(), delta.provider(),
+                    delta.model(), delta.promptVersion());
+        }
+    }
+
+    private record UsageTotals(long calls, long promptTokens, long completionTokens, long truncatedCalls,
+                               long totalLatencyMs, long maxLatencyMs) {
+
+        static UsageTotals of(LlmResponse response) {
+            return new UsageTotals(1,
+                    Math.max(0, response.promptTokens()),
+                    Math.max(0, response.completionTokens()),
+                    LlmResponse.FINISH_LENGTH.equals(response.finishReason()) ? 1 : 0,
+                    response.latencyMs(),
+                    response.latencyMs());
+        }
+
+        static UsageTotals of(LlmUsageRepository.Delta delta) {
+            return new UsageTotals(delta.calls(), delta.promptTokens(), delta.completionTokens(),
+                    delta.truncatedCalls(), delta.totalLatencyMs(), delta.maxLatencyMs());
+        }
+
+        UsageTotals plus(UsageTotals other) {
+            return new UsageTotals(calls + other.calls,
+                    promptTokens + other.promptTokens,
+                    completionTokens + other.completionTokens,
+                    truncatedCalls + other.truncatedCalls,
+                    totalLatencyMs + other.totalLatencyMs,
+                    Math.max(maxLatencyMs, other.maxLatencyMs));
+        }
+
+        LlmUsageRepository.Delta toDelta(UsageKey key) {
+            return new LlmUsageRepository.Delta(key.usageDate(), key.userId(), key.provider(), key.model(),
+                    key.promptVersion(), calls, promptTokens, completionTokens, truncatedCalls,
+                    totalLatencyMs, maxLatencyMs);
+        }
+    }
+}
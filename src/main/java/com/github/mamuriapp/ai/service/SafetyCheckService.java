@@ -2,17 +2,20 @@ package com.github.mamuriapp.ai.service;
 
 import com.github.mamuriapp.ai.entity.SafetyEvent;
 import com.github.mamuriapp.ai.repository.SafetyEventRepository;
+import com.github.mamuriapp.ai.safety.KeywordMatcher;
+import com.github.mamuriapp.ai.safety.SafetyDictionary;
+import com.github.mamuriapp.ai.safety.SafetyKeywordEntry;
 import com.github.mamuriapp.diary.entity.Diary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * 안전 검사 서비스.
  * 일기 내용에 위기 신호(자해/자살 등)가 포함되어 있는지 키워드 기반 검사를 수행한다.
+ * 키워드 사전은 {@link SafetyDictionaryService}가 {@link KeywordMatcher}로 미리 컴파일해 두며,
+ * 사전 크기와 무관하게 본문을 한 번만 훑는다.
  */
 @Slf4j
 @Service
@@ -20,13 +23,7 @@ import java.util.List;
 public class SafetyCheckService {
 
     private final SafetyEventRepository safetyEventRepository;
-
-    private static final List<String> CRISIS_KEYWORDS = List.of(
-            "자살", "자해", "죽고 싶", "죽고싶", "죽을 거",
-            "죽을거", "목숨을 끊", "목숨을끊", "끝내고 싶",
-            "끝내고싶", "살고 싶지 않", "살고싶지않",
-            "세상을 떠나", "세상을떠나"
-    );
+    private final SafetyDictionaryService safetyDictionaryService;
 
     /**
      * 일기 내용의 안전 검사를 수행한다.
@@ -42,26 +39,25 @@ public class SafetyCheckService {
             return true;
         }
 
-        String normalized = content.replace(" ", "");
-        for (String keyword : CRISIS_KEYWORDS) {
-            String normalizedKeyword = keyword.replace(" ", "");
-            if (normalized.contains(normalizedKeyword)) {
-                recordSafetyEvent(diary, keyword);
-                return false;
-            }
+        SafetyDictionary.Match match = safetyDictionaryService.current().findFirst(content);
+        if (match != null) {
+            recordSafetyEvent(diary, match);
+            return false;
         }
 
         return true;
     }
 
-    private void recordSafetyEvent(Diary diary, String matchedKeyword) {
+    private void recordSafetyEvent(Diary diary, SafetyDictionary.Match match) {
+        SafetyKeywordEntry entry = match.entry();
         SafetyEvent event = SafetyEvent.builder()
                 .diary(diary)
-                .eventType("crisis_keyword")
-                .confidenceScore(1.0)
-                .actionTaken("safety_response_override (matched: " + matchedKeyword + ")")
+                .eventType(entry.category())
+                .confidenceScore(entry.weight())
+                .actionTaken("safety_response_override (matched: " + entry.keyword() + ")")
                 .build();
         safetyEventRepository.save(event);
-        log.warn("안전 이벤트 감지 (diaryId={}, keyword={})", diary.getId(), matchedKeyword);
+        log.warn("안전 이벤트 감지 (diaryId={}, keyword={}, category={}, offset={})",
+                diary.getId(), entry.keyword(), entry.category(), match.position().start());
     }
 }
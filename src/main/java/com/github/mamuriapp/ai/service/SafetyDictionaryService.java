@@ -0,0 +1,114 @@
+package com.github.mamuriapp.ai.service;
+
+import com.github.mamuriapp.ai.repository.SafetyKeywordRepository;
+import com.github.mamuriapp.ai.safety.SafetyDictionary;
+import com.github.mamuriapp.ai.safety.SafetyKeywordEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 안전 사전 관리 서비스.
+ * DB의 키워드 사전을 불변 스냅샷으로 컴파일해 두고, 변경이 감지되면 새 스냅샷으로 원자적으로 교체한다.
+ * 요청 경로는 volatile 참조 하나만 읽으므로 락이 없고, 재컴파일은 별도 스레드에서만 수행된다.
+ */
+@Slf4j
+@Service
+public class SafetyDictionaryService {
+
+    private final SafetyKeywordRepository safetyKeywordRepository;
+    private final ExecutorService reloadExecutor;
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+
+    private volatile SafetyDictionary current = SafetyDictionary.builtIn();
+
+    public SafetyDictionaryService(SafetyKeywordRepository safetyKeywordRepository) {
+        this.safetyKeywordRepository = safetyKeywordRepository;
+        this.reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "safety-dictionary-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("안전 사전 로드 실패, 내장 사전으로 시작합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 사전 스냅샷을 반환한다.
+     *
+     * @return 사전 스냅샷
+     */
+    public SafetyDictionary current() {
+        return current;
+    }
+
+    /**
+     * 사전 재컴파일을 요청한다.
+     * 호출 스레드에서는 작업만 등록하며, 이미 대기 중인 요청이 있으면 합쳐진다.
+     */
+    public void requestReload() {
+        if (reloadPending.compareAndSet(false, true)) {
+            reloadExecutor.execute(() -> {
+                reloadPending.set(false);
+                try {
+                    reload();
+                } catch (Exception e) {
+                    log.error("안전 사전 재컴파일 실패: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * DB의 사전 버전이 현재 스냅샷과 다르면 재컴파일을 요청한다.
+     */
+    @Scheduled(fixedDelayString = "${ai.safety.refresh-interval-ms:60000}",
+               initialDelayString = "${ai.safety.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        try {
+            long version = safetyKeywordRepository.findDictionaryVersion();
+            if (version != current.version()) {
+                log.info("안전 사전 변경 감지 (version {} -> {})", current.version(), version);
+                requestReload();
+            }
+        } catch (Exception e) {
+            log.warn("안전 사전 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        // 버전을 먼저 읽어, 읽는 도중 변경되면 다음 확인 주기에 다시 반영되도록 한다.
+        long version = safetyKeywordRepository.findDictionaryVersion();
+        List<SafetyKeywordEntry> entries = safetyKeywordRepository.findByEnabledTrueOrderByIdAsc().stream()
+                .map(keyword -> new SafetyKeywordEntry(
+                        keyword.getKeyword(), keyword.getCategory(), keyword.getWeight()))
+                .toList();
+
+        if (entries.isEmpty()) {
+            log.error("안전 사전이 비어 있어 기존 사전을 유지합니다 (version={})", version);
+            return;
+        }
+
+        current = SafetyDictionary.compile(version, entries);
+        log.info("안전 사전 로드 완료 (version={}, keywords={})", version, entries.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.mamuriapp.ai.simulation;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이션 첫 토큰 지연 분포.
+ * 로그 정규 분포는 설정한 중앙값(p50)과 99분위(p99)를 만족하도록
+ * mu = ln(p50), sigma = (ln(p99) - ln(p50)) / z(0.99)로 모수를 정한다.
+ */
+public final class LatencyModel {
+
+    /** 표준 정규 분포의 99분위 */
+    private static final double Z_99 = 2.3263478740408408;
+
+    private final AiProperties.Simulation.LatencyDistribution distribution;
+    private final long fixedMs;
+    private final long minMs;
+    private final long maxMs;
+    private final double mu;
+    private final double sigma;
+
+    private LatencyModel(AiProperties.Simulation config) {
+        this.distribution = config.getLatency();
+        this.fixedMs = Math.max(0, config.getFixedMs());
+        this.minMs = Math.max(0, Math.min(config.getMinMs(), config.getMaxMs()));
+        this.maxMs = Math.max(0, Math.max(config.getMinMs(), config.getMaxMs()));
+
+        double p50 = Math.max(1, config.getP50Ms());
+        double p99 = Math.max(p50, config.getP99Ms());
+        this.mu = Math.log(p50);
+        this.sigma = (Math.log(p99) - Math.log(p50)) / Z_99;
+    }
+
+    /**
+     * 설정으로 분포를 만든다.
+     *
+     * @param config 시뮬레이션 설정
+     * @return 지연 분포
+     */
+    public static LatencyModel from(AiProperties.Simulation config) {
+        return new LatencyModel(config);
+    }
+
+    /**
+     * 지연 하나를 추출한다.
+     *
+     * @param random 난수 생성기
+     * @return 지연 (밀리초)
+     */
+    public long sampleMs(RandomGenerator random) {
+        return switch (distribution) {
+            case FIXED -> fixedMs;
+            case UNIFORM -> minMs == maxMs ? minMs : random.nextLong(minMs, maxMs + 1);
+            case LOG_NORMAL -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        };
+    }
+}
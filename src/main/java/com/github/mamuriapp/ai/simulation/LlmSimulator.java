@@ -0,0 +1,137 @@
+package com.github.mamuriapp.ai.simulation;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.provider.LlmResponse;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * LLM 호출 한 건의 결과와 시간 계획을 만든다.
+ * 시뮬레이션 공급자와 로컬 OpenAI 형식 서버가 같은 계획을 따라
+ * 지연, 오류·타임아웃 주입, 토큰 단위 스트리밍, maxTokens에 비례한 출력 길이를 재현한다.
+ * 계획만 만들고 직접 기다리지 않으므로 호출자가 자신의 전송 방식에 맞춰 시간을 보낸다.
+ */
+public final class LlmSimulator {
+
+    /** 출력 길이 변동 폭 (평균 대비 ±) */
+    private static final double OUTPUT_JITTER = 0.2;
+
+    /** 출력 토큰으로 사용할 한국어 조각 (조각 하나를 토큰 하나로 센다) */
+    private static final String[] FRAGMENTS = {
+            "오늘", " 하루", "도", " 정말", " 수고", " 많으", "셨어요", ".",
+            " 일기", "를", " 통해", " 마음", "을", " 나눠", " 주셔서", " 감사", "해요", ".",
+            " 힘든", " 순간", "에도", " 스스로", "를", " 돌보", "려는", " 모습", "이", " 느껴", "져요", ".",
+            " 내일", "은", " 조금", " 더", " 편안", "한", " 하루", "가", " 되", "길", " 바랄", "게요", "."
+    };
+
+    private final AiProperties.Simulation config;
+    private final LatencyModel latencyModel;
+    private final TokenEstimator tokenEstimator;
+    private final Random seeded;
+
+    /**
+     * @param config         시뮬레이션 설정
+     * @param tokenEstimator 입력 토큰 수 계산용 추정기
+     */
+    public LlmSimulator(AiProperties.Simulation config, TokenEstimator tokenEstimator) {
+        this.config = config;
+        this.latencyModel = LatencyModel.from(config);
+        this.tokenEstimator = tokenEstimator;
+        this.seeded = config.getSeed() != 0 ? new Random(config.getSeed()) : null;
+    }
+
+    /**
+     * 호출 한 건을 계획한다.
+     *
+     * @param prompt    프롬프트 전문
+     * @param maxTokens 최대 출력 토큰 수
+     * @return 호출 계획
+     */
+    public Plan plan(String prompt, int maxTokens) {
+        RandomGenerator random = seeded != null ? seeded : ThreadLocalRandom.current();
+
+        Outcome outcome = Outcome.SUCCESS;
+        double roll = random.nextDouble();
+        if (roll < config.getTimeoutRate()) {
+            outcome = Outcome.TIMEOUT;
+        } else if (roll < config.getTimeoutRate() + config.getErrorRate()) {
+            outcome = Outcome.ERROR;
+        }
+
+        double jitter = 1 + OUTPUT_JITTER * (2 * random.nextDouble() - 1);
+        int wanted = Math.max(1, (int) Math.round(maxTokens * config.getOutputRatio() * jitter));
+        int count = Math.min(wanted, Math.max(1, maxTokens));
+        String finishReason = wanted > count ? LlmResponse.FINISH_LENGTH : LlmResponse.FINISH_STOP;
+
+        List<String> tokens = new ArrayList<>(count);
+        int offset = random.nextInt(FRAGMENTS.length);
+        for (int i = 0; i < count; i++) {
+            tokens.add(FRAGMENTS[(offset + i) % FRAGMENTS.length]);
+        }
+
+        long tokenIntervalNanos = config.getTokensPerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / config.getTokensPerSecond())
+                : 0;
+        // 오류는 스트리밍 중간에도 날 수 있도록 실패 시점을 토큰 위치로 정한다.
+        int failAfterTokens = outcome == Outcome.ERROR ? random.nextInt(count) : count;
+
+        return new Plan(outcome, latencyModel.sampleMs(random), tokenIntervalNanos, List.copyOf(tokens),
+                tokenEstimator.count(prompt), finishReason, failAfterTokens, config.getTimeoutMs());
+    }
+
+    /**
+     * 호출 결과 종류.
+     */
+    public enum Outcome {
+        SUCCESS, ERROR, TIMEOUT
+    }
+
+    /**
+     * 호출 계획.
+     *
+     * @param outcome            결과 종류
+     * @param firstTokenDelayMs  첫 토큰까지의 지연 (밀리초)
+     * @param tokenIntervalNanos 토큰 사이 간격 (나노초)
+     * @param tokens             출력 토큰 조각
+     * @param promptTokens       입력 토큰 수
+     * @param finishReason       종료 사유 (stop 또는 length)
+     * @param failAfterTokens    ERROR일 때 이만큼 토큰을 낸 뒤 실패한다
+     * @param timeoutMs          TIMEOUT일 때 멈춰 있는 시간 (밀리초)
+     */
+    public record Plan(Outcome outcome, long firstTokenDelayMs, long tokenIntervalNanos, List<String> tokens,
+                       int promptTokens, String finishReason, int failAfterTokens, long timeoutMs) {
+
+        /**
+         * 출력 전문.
+         *
+         * @return 토큰 조각을 이어 붙인 문자열
+         */
+        public String content() {
+            return String.join("", tokens);
+        }
+
+        /**
+         * 출력 토큰 수.
+         *
+         * @return 토큰 수
+         */
+        public int completionTokens() {
+            return tokens.size();
+        }
+
+        /**
+         * 스트리밍 없이 전체 응답을 만드는 데 걸리는 시간.
+         *
+         * @return 첫 토큰 지연과 토큰 생성 시간의 합 (나노초)
+         */
+        public long totalNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(firstTokenDelayMs) + tokenIntervalNanos * tokens.size();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.github.mamuriapp.ai.simulation;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+import com.github.mamuriapp.global.config.ThreadingConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI Chat Completions 형식으로 응답하는 로컬 HTTP 서버.
+ * ai.simulation.server.enabled=true 일 때 애플리케이션과 함께 뜬다.
+ * 응답 내용과 시간은 {@link LlmSimulator} 계획을 따르며, stream=true이면 토큰 조각을 SSE로 흘려보낸다.
+ * 스트리밍 중 오류는 실제 공급자처럼 몇 조각을 보낸 뒤 연결을 끊는 것으로 재현한다.
+ * ai.provider=openai와 ai.api.url을 이 서버로 지정하면 네트워크 없이
+ * OpenAiProvider의 HTTP 클라이언트, 파서, 보호 계층까지 포함해 부하 테스트할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.simulation.server.enabled", havingValue = "true")
+public class SimulatedOpenAiServer {
+
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final int DEFAULT_MAX_TOKENS = 180;
+
+    private final AiProperties.Simulation.Server config;
+    private final LlmSimulator simulator;
+    private final ObjectMapper objectMapper;
+    private final ThreadingConfig threadingConfig;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public SimulatedOpenAiServer(AiProperties aiProperties, TokenEstimator tokenEstimator,
+                                 ObjectMapper objectMapper, ThreadingConfig threadingConfig) {
+        this.config = aiProperties.getSimulation().getServer();
+        this.simulator = new LlmSimulator(aiProperties.getSimulation(), tokenEstimator);
+        this.objectMapper = objectMapper;
+        this.threadingConfig = threadingConfig;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        executor = threadingConfig.newExecutor("llm-sim-", config.getThreads());
+        server = HttpServer.create(new InetSocketAddress(config.getHost(), config.getPort()), 0);
+        server.createContext(COMPLETIONS_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("시뮬레이션 OpenAI 서버 시작 (url=http://{}:{}/v1)",
+                config.getHost(), server.getAddress().getPort());
+    }
+
+    @PreDestroy
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String model = request.path("model").asString("simulated");
+            int maxTokens = request.path("max_tokens").asInt(DEFAULT_MAX_TOKENS);
+            boolean stream = request.path("stream").asBoolean(false);
+            boolean includeUsage = request.path("stream_options").path("include_usage").asBoolean(false);
+
+            LlmSimulator.Plan plan = simulator.plan(lastMessage(request), maxTokens);
+            switch (plan.outcome()) {
+                case TIMEOUT -> {
+                    // 응답 없이 멈췄다가 연결을 끊는다. 클라이언트는 읽기 타임아웃으로 끝난다.
+                    TimeUnit.MILLISECONDS.sleep(plan.timeoutMs());
+                }
+                case ERROR -> {
+                    if (stream) {
+                        sendBrokenStream(exchange, "chatcmpl-sim-" + sequence.incrementAndGet(), model, plan);
+                    } else {
+                        TimeUnit.MILLISECONDS.sleep(plan.firstTokenDelayMs());
+                        sendError(exchange);
+                    }
+                }
+                case SUCCESS -> {
+                    String id = "chatcmpl-sim-" + sequence.incrementAndGet();
+                    if (stream) {
+                        sendStream(exchange, id, model, plan, includeUsage);
+                    } else {
+                        TimeUnit.NANOSECONDS.sleep(plan.totalNanos());
+                        sendCompletion(exchange, id, model, plan);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("시뮬레이션 요청 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private String lastMessage(JsonNode request) {
+        String content = "";
+        for (JsonNode message : request.path("messages")) {
+            content = message.path("content").asString("");
+        }
+        return content;
+    }
+
+    private void sendCompletion(HttpExchange exchange, String id, String model, LlmSimulator.Plan plan)
+            throws IOException {
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("message", Map.of("role", "assistant", "content", plan.content()));
+        choice.put("finish_reason", plan.finishReason());
+
+        Map<String, Object> body = envelope(id, "chat.completion", model);
+        body.put("choices", List.of(choice));
+        body.put("usage", usage(plan));
+
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void sendStream(HttpExchange exchange, String id, String model, LlmSimulator.Plan plan,
+                            boolean includeUsage) throws IOException, InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(plan.firstTokenDelayMs());
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        writeTokens(out, id, model, plan, plan.tokens().size());
+        writeChunk(out, id, model, Map.of(), plan.finishReason());
+
+        if (includeUsage) {
+            Map<String, Object> usageChunk = envelope(id, "chat.completion.chunk", model);
+            usageChunk.put("choices", List.of());
+            usageChunk.put("usage", usage(plan));
+            writeEvent(out, objectMapper.writeValueAsString(usageChunk));
+        }
+        writeEvent(out, "[DONE]");
+    }
+
+    /**
+     * failAfterTokens개의 조각을 보낸 뒤 응답을 끝내지 않고 연결을 끊는다.
+     * 응답 길이를 실제보다 길게 알려 두면 HttpServer가 교환을 닫을 때 연결을 끊으므로
+     * 클라이언트는 [DONE] 없이 본문을 읽는 도중 EOF를 받는다.
+     */
+    private void sendBrokenStream(HttpExchange exchange, String id, String model, LlmSimulator.Plan plan)
+            throws IOException, InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(plan.firstTokenDelayMs());
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, Integer.MAX_VALUE);
+        writeTokens(exchange.getResponseBody(), id, model, plan, plan.failAfterTokens());
+    }
+
+    private void writeTokens(OutputStream out, String id, String model, LlmSimulator.Plan plan, int count)
+            throws IOException, InterruptedException {
+        List<String> tokens = plan.tokens();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                TimeUnit.NANOSECONDS.sleep(plan.tokenIntervalNanos());
+            }
+            writeChunk(out, id, model, Map.of("content", tokens.get(i)), null);
+        }
+    }
+
+    private void writeChunk(OutputStream out, String id, String model,
+                            Map<String, Object> delta, String finishReason) throws IOException {
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+
+        Map<String, Object> chunk = envelope(id, "chat.completion.chunk", model);
+        chunk.put("choices", List.of(choice));
+        writeEvent(out, objectMapper.writeValueAsString(chunk));
+    }
+
+    private static void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void sendError(HttpExchange exchange) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(Map.of("error", Map.of(
+                "message", "simulated upstream error",
+                "type", "server_error")));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(500, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static Map<String, Object> envelope(String id, String object, String model) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", id);
+        body.put("object", object);
+        body.put("created", System.currentTimeMillis() / 1000);
+        body.put("model", model);
+        return body;
+    }
+
+    private static Map<String, Object> usage(LlmSimulator.Plan plan) {
+        return Map.of(
+                "prompt_tokens", plan.promptTokens(),
+                "completion_tokens", plan.completionTokens(),
+                "total_tokens", plan.promptTokens() + plan.completionTokens());
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.mamuriapp.ai.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.prompt.CompiledPrompt;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.BreakIterator;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로컬 토크나이저 기반 토큰 수 추정기.
+ * 공급자와 같은 BPE 인코딩으로 토큰을 세므로 한국어처럼 글자 수와 토큰 수가 크게 다른 본문도
+ * 실제 과금 단위에 가깝게 예산을 잡을 수 있다.
+ * 일기 본문은 (일기 ID, 본문 해시)로, 템플릿은 컴파일된 인스턴스로 토큰 수를 캐시해
+ * 한도 확인과 프롬프트 렌더링에서 같은 본문을 두 번 세지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenEstimator {
+
+    private final Encoding encoding;
+
+    private final Cache<DiaryKey, Integer> diaryTokenCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    /** 템플릿이 다시 로드되면 이전 인스턴스와 함께 항목도 사라진다 */
+    private final Cache<CompiledPrompt, Integer> templateTokenCache = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public TokenEstimator(AiProperties aiProperties) {
+        String name = aiProperties.getTokens().getEncoding();
+        EncodingType type = EncodingType.fromName(name).orElseGet(() -> {
+            log.warn("알 수 없는 토큰 인코딩: {}. o200k_base를 사용합니다.", name);
+            return EncodingType.O200K_BASE;
+        });
+        this.encoding = Encodings.newLazyEncodingRegistry().getEncoding(type);
+    }
+
+    /**
+     * 문자열의 토큰 수를 센다.
+     *
+     * @param text 대상 문자열 (null이면 0)
+     * @return 토큰 수
+     */
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return encoding.countTokens(text);
+    }
+
+    /**
+     * 일기 본문의 토큰 수를 센다. 저장된 일기는 본문이 바뀌지 않는 한 캐시된 값을 쓴다.
+     *
+     * @param diary 대상 일기
+     * @return 본문 토큰 수
+     */
+    public int countDiary(Diary diary) {
+        String content = diary.getContent();
+        if (diary.getId() == null || content == null) {
+            return count(content);
+        }
+        return diaryTokenCache.get(new DiaryKey(diary.getId(), content.length(), content.hashCode()),
+                key -> count(content));
+    }
+
+    /**
+     * 템플릿에서 본문을 제외한 고정 부분의 토큰 수를 센다.
+     *
+     * @param prompt 컴파일된 템플릿
+     * @return 템플릿 토큰 수
+     */
+    public int countTemplate(CompiledPrompt prompt) {
+        return templateTokenCache.get(prompt, key -> count(key.literalText()));
+    }
+
+    /**
+     * 토큰 예산 안에 들어오도록 문장 경계에서 자른다.
+     * 첫 문장만으로 예산을 넘으면 글자 비율로 자른 뒤 예산 안에 들 때까지 줄인다.
+     *
+     * @param text   대상 문자열
+     * @param budget 토큰 예산
+     * @return 예산 안의 문자열 (원문이 예산 안이면 그대로)
+     */
+    public String truncate(String text, int budget) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        if (budget <= 0) {
+            return "";
+        }
+        int total = count(text);
+        if (total <= budget) {
+            return text;
+        }
+
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.KOREAN);
+        sentences.setText(text);
+        int cut = 0;
+        int used = 0;
+        for (int end = sentences.next(); end != BreakIterator.DONE; end = sentences.next()) {
+            int sentenceTokens = count(text.substring(cut, end));
+            if (used + sentenceTokens > budget) {
+                break;
+            }
+            used += sentenceTokens;
+            cut = end;
+        }
+        if (cut > 0) {
+            // 문장별 합과 이어 붙인 결과의 토큰 수는 경계에서 조금 다를 수 있으므로 한 번 더 확인한다.
+            String truncated = text.substring(0, cut).stripTrailing();
+            if (count(truncated) <= budget) {
+                return truncated;
+            }
+        }
+        return truncateByRatio(text, budget, total);
+    }
+
+    private String truncateByRatio(String text, int budget, int total) {
+        int length = (int) ((long) text.length() * budget / total);
+        while (length > 0) {
+            if (Character.isLowSurrogate(text.charAt(length))) {
+                length--;
+            }
+            String truncated = text.substring(0, length);
+            if (count(truncated) <= budget) {
+                return truncated;
+            }
+            length = length * 9 / 10;
+        }
+        return "";
+    }
+
+    private record DiaryKey(Long diaryId, int length, int hash) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.mamuriapp.diary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일기 일괄 쓰기 설정 프로퍼티.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.batch")
+public class DiaryBatchProperties {
+
+    /** 한 요청에 담을 수 있는 최대 연산 수 */
+    private int maxOperations = 100;
+
+    /** 멱등 키 보관 기간 (일). 이보다 오래 미뤄진 재전송은 새 연산으로 처리된다. */
+    private int keyRetentionDays = 30;
+
+    /** 만료된 멱등 키 정리 주기 (밀리초) */
+    private long purgeIntervalMs = 3_600_000;
+}
@@ -0,0 +1,22 @@
+package com.github.mamuriapp.diary.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일기 파티션 관리 설정 프로퍼티.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.partition")
+public class DiaryPartitionProperties {
+
+    /** 이번 달 이후 미리 만들어 둘 월별 파티션 수 */
+    private int monthsAhead = 3;
+
+    /** 파티션 확인 주기 (밀리초) */
+    private long maintenanceIntervalMs = 21_600_000;
+}
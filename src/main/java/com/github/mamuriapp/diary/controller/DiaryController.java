@@ -1,11 +1,19 @@
 package com.github.mamuriapp.diary.controller;
 
+import com.github.mamuriapp.diary.dto.DiaryBatchRequest;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
 import com.github.mamuriapp.diary.dto.DiaryCalendarResponse;
 import com.github.mamuriapp.diary.dto.DiaryCreateRequest;
 import com.github.mamuriapp.diary.dto.DiaryResponse;
+import com.github.mamuriapp.diary.dto.DiarySearchResponse;
+import com.github.mamuriapp.diary.dto.DiarySummaryResponse;
 import com.github.mamuriapp.diary.dto.DiaryUpdateRequest;
+import com.github.mamuriapp.diary.dto.DiaryYearCalendarResponse;
+import com.github.mamuriapp.diary.service.DiaryBatchService;
 import com.github.mamuriapp.diary.service.DiaryService;
 import com.github.mamuriapp.global.dto.ApiResponse;
+import com.github.mamuriapp.global.dto.CursorPageResponse;
+import com.github.mamuriapp.global.idempotency.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -25,48 +33,120 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryBatchService diaryBatchService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 새로운 일기를 작성한다.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재전송에 처음 작성한 일기를 그대로 반환한다.
      *
      * @param authentication 인증 정보
+     * @param idempotencyKey 멱등 키 (선택)
      * @param request        일기 작성 요청
      * @return 작성된 일기 응답
      */
     @PostMapping
     public ResponseEntity<ApiResponse<DiaryResponse>> create(
             Authentication authentication,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody DiaryCreateRequest request) {
         Long userId = (Long) authentication.getPrincipal();
-        DiaryResponse response = diaryService.create(userId, request);
+        DiaryResponse response = idempotencyService.execute(userId, "diary.create", idempotencyKey,
+                request, DiaryResponse.class, () -> diaryService.create(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
 
     /**
-     * 일기 목록을 조회한다.
-     * year와 month가 모두 제공되면 해당 월의 일기만 조회한다.
+     * 오프라인 동안 쌓인 작성·수정·삭제 연산을 한 번에 적용한다.
      *
      * @param authentication 인증 정보
-     * @param year           연도 (선택)
-     * @param month          월 (선택)
-     * @return 일기 목록
+     * @param request        일괄 쓰기 요청
+     * @return 요청과 같은 순서의 연산별 결과
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<DiaryBatchResult>>> batch(
+            Authentication authentication,
+            @Valid @RequestBody DiaryBatchRequest request) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(diaryBatchService.apply(userId, request)));
+    }
+
+    /**
+     * 일기 목록을 커서 기반으로 한 페이지씩 조회한다.
+     *
+     * @param authentication 인증 정보
+     * @param cursor         이전 페이지의 nextCursor (선택)
+     * @param size           페이지 크기 (선택, 최대 50)
+     * @param includeComments AI 코멘트 포함 여부 (선택)
+     * @return 일기 페이지
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<DiaryResponse>>> getList(
+    public ResponseEntity<ApiResponse<CursorPageResponse<DiarySummaryResponse>>> getPage(
             Authentication authentication,
-            @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeComments) {
         Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(
+                diaryService.getPage(userId, cursor, size, includeComments)));
+    }
 
-        List<DiaryResponse> response;
-        if (year != null && month != null) {
-            response = diaryService.getListByMonth(userId, year, month);
-        } else {
-            response = diaryService.getList(userId);
-        }
+    /**
+     * 특정 월의 일기 목록을 조회한다.
+     *
+     * @param authentication 인증 정보
+     * @param year           연도
+     * @param month          월
+     * @param includeComments AI 코멘트 포함 여부 (선택)
+     * @return 일기 목록
+     */
+    @GetMapping(params = {"year", "month"})
+    public ResponseEntity<ApiResponse<List<DiarySummaryResponse>>> getListByMonth(
+            Authentication authentication,
+            @RequestParam int year,
+            @RequestParam int month,
+            @RequestParam(defaultValue = "false") boolean includeComments) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(
+                diaryService.getListByMonth(userId, year, month, includeComments)));
+    }
+
+    /**
+     * 전체 일기 목록을 페이지 제한 없이 조회한다.
+     * 기존 클라이언트 호환용이며 all=true를 명시한 경우에만 동작한다.
+     *
+     * @param authentication 인증 정보
+     * @param includeComments AI 코멘트 포함 여부 (선택)
+     * @return 일기 목록
+     */
+    @GetMapping(params = "all=true")
+    public ResponseEntity<ApiResponse<List<DiarySummaryResponse>>> getList(
+            Authentication authentication,
+            @RequestParam(defaultValue = "false") boolean includeComments) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(
+                diaryService.getList(userId, includeComments)));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+    /**
+     * 제목과 본문에서 검색어를 포함한 일기를 관련도순으로 검색한다.
+     *
+     * @param authentication 인증 정보
+     * @param q              검색어 (최대 50자)
+     * @param cursor         이전 페이지의 nextCursor (선택)
+     * @param size           페이지 크기 (선택, 최대 50)
+     * @return 검색 결과 페이지
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DiarySearchResponse>>> search(
+            Authentication authentication,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(
+                diaryService.search(userId, q, cursor, size)));
     }
 
     /**
@@ -87,6 +167,22 @@ public class DiaryController {
                 ApiResponse.success(diaryService.getCalendar(userId, year, month)));
     }
 
+    /**
+     * 연간 캘린더(히트맵)용 월별 점유 마스크를 조회한다.
+     *
+     * @param authentication 인증 정보
+     * @param year           연도
+     * @return 1~12월 점유 마스크
+     */
+    @GetMapping("/calendar/{year}")
+    public ResponseEntity<ApiResponse<DiaryYearCalendarResponse>> getYearCalendar(
+            Authentication authentication,
+            @PathVariable int year) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(
+                ApiResponse.success(diaryService.getYearCalendar(userId, year)));
+    }
+
     /**
      * 일기 상세를 조회한다.
      *
@@ -0,0 +1,54 @@
+package com.github.mamuriapp.diary.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 일괄 쓰기의 연산 한 건.
+ * 수정·삭제 대상은 diaryId로 지정하거나, 아직 서버 ID를 모르는 일기라면
+ * 그 일기를 만든 CREATE 연산의 멱등 키를 targetKey로 지정한다.
+ */
+@Getter
+public class DiaryBatchOperation {
+
+    @NotNull(message = "연산 종류는 필수입니다.")
+    private Type op;
+
+    /** 클라이언트가 만든 멱등 키. 같은 키의 연산은 한 번만 적용된다. */
+    @NotBlank(message = "멱등 키는 필수입니다.")
+    @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+    private String idempotencyKey;
+
+    /** 수정·삭제 대상 일기 ID */
+    private Long diaryId;
+
+    /** 수정·삭제 대상 일기를 만든 CREATE 연산의 멱등 키 (diaryId 대신 사용) */
+    @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+    private String targetKey;
+
+    /** 제목 (CREATE, UPDATE 필수) */
+    @Size(max = 100, message = "제목은 100자 이하여야 합니다.")
+    private String title;
+
+    /** 본문 (CREATE, UPDATE 필수) */
+    private String content;
+
+    /**
+     * 일기 날짜. CREATE에서 미입력 시 오늘, UPDATE에서 미입력 시 기존 날짜 유지.
+     * 미래 날짜는 허용되지 않음.
+     */
+    @PastOrPresent(message = "일기 날짜는 오늘 이전이어야 합니다.")
+    private LocalDate diaryDate;
+
+    /**
+     * 연산 종류.
+     */
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+}
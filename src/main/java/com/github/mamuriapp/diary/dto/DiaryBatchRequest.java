@@ -0,0 +1,18 @@
+package com.github.mamuriapp.diary.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일기 일괄 쓰기 요청 DTO.
+ * 오프라인 동안 쌓인 연산을 발생 순서대로 담는다.
+ */
+@Getter
+public class DiaryBatchRequest {
+
+    @NotEmpty(message = "연산 목록은 필수입니다.")
+    private List<@Valid DiaryBatchOperation> operations;
+}
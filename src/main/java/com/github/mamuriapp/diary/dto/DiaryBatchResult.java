@@ -0,0 +1,38 @@
+package com.github.mamuriapp.diary.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일기 일괄 쓰기의 연산별 결과.
+ * 요청과 같은 순서로 반환된다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DiaryBatchResult {
+
+    private String idempotencyKey;
+    private DiaryBatchOperation.Type op;
+    private Status status;
+
+    /** 대상 일기 ID (CREATE면 새로 발급된 ID, 대상을 찾지 못했으면 null) */
+    private Long diaryId;
+
+    /** 새로 만든 일기의 AI 코멘트 생성 상태 (CREATE에만 포함, 항상 PENDING) */
+    private AiCommentResponse aiComment;
+
+    /**
+     * 연산 처리 결과.
+     */
+    public enum Status {
+        /** 이번 요청에서 적용됨 */
+        APPLIED,
+        /** 같은 멱등 키로 이미 처리된 연산 (다시 적용하지 않음) */
+        DUPLICATE,
+        /** 대상 일기가 없거나 이미 삭제됨 (건너뜀) */
+        NOT_FOUND
+    }
+}
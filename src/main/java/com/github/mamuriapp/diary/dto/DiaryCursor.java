@@ -0,0 +1,71 @@
+package com.github.mamuriapp.diary.dto;
+
+import com.github.mamuriapp.diary.repository.DiarySummary;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 일기 목록 keyset 페이지네이션 커서.
+ * (diary_date DESC, created_at DESC, id DESC) 정렬 기준의 마지막 위치를 나타낸다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다.
+ *
+ * @param diaryDate 마지막 항목의 일기 날짜
+ * @param createdAt 마지막 항목의 작성 시각
+ * @param id        마지막 항목의 ID
+ */
+public record DiaryCursor(LocalDate diaryDate, LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 일기 요약의 정렬 키로 커서를 만든다.
+     *
+     * @param summary 페이지의 마지막 일기 요약
+     * @return DiaryCursor
+     */
+    public static DiaryCursor from(DiarySummary summary) {
+        return new DiaryCursor(summary.getDiaryDate(), summary.getCreatedAt(), summary.getId());
+    }
+
+    /**
+     * 커서를 불투명 문자열로 인코딩한다.
+     *
+     * @return Base64URL 인코딩된 커서
+     */
+    public String encode() {
+        String raw = diaryDate + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 디코딩한다.
+     *
+     * @param encoded Base64URL 인코딩된 커서
+     * @return DiaryCursor
+     * @throws CustomException 형식이 올바르지 않으면 INVALID_CURSOR
+     */
+    public static DiaryCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new DiaryCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
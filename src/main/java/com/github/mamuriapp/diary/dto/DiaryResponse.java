@@ -2,17 +2,21 @@ package com.github.mamuriapp.diary.dto;
 
 import com.github.mamuriapp.ai.dto.AiCommentResponse;
 import com.github.mamuriapp.diary.entity.Diary;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 일기 응답 DTO.
+ * Idempotency-Key로 저장해 둔 응답을 DB에서 복원할 수 있도록 기본 생성자를 둔다.
  */
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DiaryResponse {
 
     private Long id;
@@ -0,0 +1,68 @@
+package com.github.mamuriapp.diary.dto;
+
+import com.github.mamuriapp.diary.repository.DiarySearchRow;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 일기 검색 keyset 페이지네이션 커서.
+ * (관련도 DESC, id DESC) 정렬 기준의 마지막 위치를 나타낸다.
+ * 관련도는 DB가 계산한 배정밀도 값을 그대로 왕복시켜야 경계 비교가 정확하므로 문자열로 손실 없이 인코딩한다.
+ *
+ * @param rank 마지막 항목의 관련도
+ * @param id   마지막 항목의 ID
+ */
+public record DiarySearchCursor(double rank, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 검색 결과 행의 정렬 키로 커서를 만든다.
+     *
+     * @param row 페이지의 마지막 검색 결과
+     * @return DiarySearchCursor
+     */
+    public static DiarySearchCursor from(DiarySearchRow row) {
+        return new DiarySearchCursor(row.rank(), row.id());
+    }
+
+    /**
+     * 커서를 불투명 문자열로 인코딩한다.
+     *
+     * @return Base64URL 인코딩된 커서
+     */
+    public String encode() {
+        String raw = Double.toString(rank) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 디코딩한다.
+     *
+     * @param encoded Base64URL 인코딩된 커서
+     * @return DiarySearchCursor
+     * @throws CustomException 형식이 올바르지 않으면 INVALID_CURSOR
+     */
+    public static DiarySearchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            double rank = Double.parseDouble(parts[0]);
+            if (!Double.isFinite(rank)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new DiarySearchCursor(rank, Long.parseLong(parts[1]));
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mamuriapp.diary.dto;
+
+import com.github.mamuriapp.diary.repository.DiarySearchRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 검색 결과 응답 DTO.
+ * 제목과 스니펫에서 검색어가 일치한 구간을 [start, end) 문자 위치로 함께 돌려준다.
+ * 클라이언트가 구간만 강조하면 되므로 본문에 마크업을 섞지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class DiarySearchResponse {
+
+    private Long id;
+    private String title;
+    private List<Highlight> titleHighlights;
+    private String snippet;
+    private List<Highlight> snippetHighlights;
+    private LocalDate diaryDate;
+    private boolean hasAiComment;
+    private LocalDateTime createdAt;
+
+    /**
+     * 검색 결과 행을 DTO로 변환한다.
+     *
+     * @param row   검색 결과 행
+     * @param query 정규화된 검색어
+     * @return DiarySearchResponse
+     */
+    public static DiarySearchResponse of(DiarySearchRow row, String query) {
+        return new DiarySearchResponse(
+                row.id(),
+                row.title(),
+                highlights(row.title(), query),
+                row.snippet(),
+                highlights(row.snippet(), query),
+                row.diaryDate(),
+                row.hasAiComment(),
+                row.createdAt()
+        );
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 검색어가 일치하는 구간을 모두 찾는다 (겹치지 않게).
+     *
+     * @param text  대상 문자열
+     * @param query 검색어
+     * @return 일치 구간 목록
+     */
+    static List<Highlight> highlights(String text, String query) {
+        List<Highlight> ranges = new ArrayList<>();
+        if (text == null || query.isEmpty()) {
+            return ranges;
+        }
+        int from = 0;
+        while (from + query.length() <= text.length()) {
+            if (text.regionMatches(true, from, query, 0, query.length())) {
+                ranges.add(new Highlight(from, from + query.length()));
+                from += query.length();
+            } else {
+                from++;
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * 강조 구간.
+     *
+     * @param start 시작 위치 (포함, UTF-16 문자 단위)
+     * @param end   끝 위치 (제외)
+     */
+    public record Highlight(int start, int end) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.mamuriapp.diary.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.diary.repository.DiarySummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 목록 응답 DTO.
+ * 본문 전체 대신 미리보기(excerpt)와 AI 코멘트 존재 여부만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class DiarySummaryResponse {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private LocalDate diaryDate;
+    private boolean hasAiComment;
+    private LocalDateTime createdAt;
+
+    /**
+     * AI 코멘트 (includeComments=true로 요청한 경우에만 포함).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AiCommentResponse aiComment;
+
+    /**
+     * 프로젝션을 DTO로 변환한다 (AI 코멘트 없이).
+     *
+     * @param summary 일기 요약 프로젝션
+     * @return DiarySummaryResponse
+     */
+    public static DiarySummaryResponse from(DiarySummary summary) {
+        return of(summary, null);
+    }
+
+    /**
+     * 프로젝션을 DTO로 변환한다 (AI 코멘트 포함).
+     *
+     * @param summary   일기 요약 프로젝션
+     * @param aiComment AI 코멘트 응답
+     * @return DiarySummaryResponse
+     */
+    public static DiarySummaryResponse of(DiarySummary summary, AiCommentResponse aiComment) {
+        return new DiarySummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getExcerpt(),
+                summary.getDiaryDate(),
+                Boolean.TRUE.equals(summary.getHasAiComment()),
+                summary.getCreatedAt(),
+                aiComment
+        );
+    }
+}
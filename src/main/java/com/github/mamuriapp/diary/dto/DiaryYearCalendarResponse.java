@@ -0,0 +1,27 @@
+package com.github.mamuriapp.diary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 연간 캘린더(히트맵)용 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryYearCalendarResponse {
+
+    /**
+     * 조회 연도.
+     */
+    private int year;
+
+    /**
+     * 1월부터 12월까지의 월별 점유 마스크 (길이 12).
+     * 각 마스크에서 bit (일 - 1)이 켜져 있으면 그 날짜에 일기가 있다.
+     */
+    private int[] monthMasks;
+
+    public static DiaryYearCalendarResponse of(int year, int[] monthMasks) {
+        return new DiaryYearCalendarResponse(year, monthMasks);
+    }
+}
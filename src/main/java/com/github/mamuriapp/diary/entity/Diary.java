@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -14,6 +15,9 @@ import java.time.LocalDateTime;
 
 /**
  * 일기 엔티티.
+ * diaries는 diary_date 기준 월별 범위 파티션 테이블이며, DB 기본 키는 (id, diary_date)이다.
+ * 날짜 조건이 있는 조회만 파티션 하나로 좁혀지므로, 목록·캘린더 조회에는 diary_date 범위를 함께 걸고
+ * id 단건 조회는 {@link DiaryLocation}에서 날짜를 먼저 찾는다.
  */
 @Entity
 @Table(name = "diaries", indexes = {
@@ -24,8 +28,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Diary {
 
+    /**
+     * 시퀀스에서 50개 단위로 미리 받아 쓰므로 INSERT 전에 ID가 정해져 JDBC 배치로 묶인다.
+     * allocationSize는 V8 마이그레이션의 diaries_id_seq 증가폭과 같아야 한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diary_seq")
+    @SequenceGenerator(name = "diary_seq", sequenceName = "diaries_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,7 +50,9 @@ public class Diary {
     /**
      * 일기가 속한 날짜 (사용자가 선택한 날짜).
      * 실제 작성 시점(createdAt)과 다를 수 있음.
+     * 파티션 키이므로 UPDATE·DELETE의 WHERE 절에 id와 함께 들어가 파티션 하나만 찾는다.
      */
+    @PartitionKey
     @Column(name = "diary_date", nullable = false)
     private LocalDate diaryDate;
 
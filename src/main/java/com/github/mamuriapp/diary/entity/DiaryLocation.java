@@ -0,0 +1,31 @@
+package com.github.mamuriapp.diary.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 위치 엔티티 (읽기 전용).
+ * 일기 ID로 diary_date를 찾아 파티션 하나만 읽도록 한다.
+ * 행은 diaries 트리거가 관리하므로 애플리케이션에서 쓰지 않는다 (V10 마이그레이션).
+ */
+@Entity
+@Table(name = "diary_locations")
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryLocation {
+
+    @Id
+    private Long id;
+
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+}
@@ -0,0 +1,25 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.diary.entity.DiaryLocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일기 위치 리포지토리 (id → diary_date 조회).
+ */
+public interface DiaryLocationRepository extends JpaRepository<DiaryLocation, Long> {
+
+    /**
+     * 일기 ID 목록에 해당하는 일기 날짜를 중복 없이 조회한다.
+     *
+     * @param ids 일기 ID 목록
+     * @return 일기 날짜 목록 (없는 ID는 제외)
+     */
+    @Query("SELECT DISTINCT l.diaryDate FROM DiaryLocation l WHERE l.id IN :ids")
+    List<LocalDate> findDiaryDatesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,16 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.diary.dto.DiaryBatchOperation;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
+
+/**
+ * 처리된 일괄 쓰기 연산의 멱등 키 기록.
+ *
+ * @param idempotencyKey 클라이언트 멱등 키
+ * @param op             연산 종류
+ * @param status         처음 처리했을 때의 결과
+ * @param diaryId        대상 일기 ID (대상을 찾지 못했으면 null)
+ */
+public record DiaryOperationKey(String idempotencyKey, DiaryBatchOperation.Type op,
+                                DiaryBatchResult.Status status, Long diaryId) {
+}
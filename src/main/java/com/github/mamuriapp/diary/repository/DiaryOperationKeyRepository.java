@@ -0,0 +1,100 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.diary.dto.DiaryBatchOperation;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일괄 쓰기 멱등 키 리포지토리.
+ * 키는 일기 쓰기와 같은 트랜잭션에서 기록되므로, 연산이 롤백되면 키도 남지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiaryOperationKeyRepository {
+
+    private static final String FIND_SQL = """
+            SELECT idempotency_key, op, status, diary_id
+            FROM diary_operation_keys
+            WHERE user_id = :userId AND idempotency_key IN (:keys)
+            """;
+
+    /** 동시에 같은 키를 기록하는 트랜잭션이 있으면 그 트랜잭션이 끝날 때까지 기다린 뒤 건너뛴다. */
+    private static final String INSERT_SQL = """
+            INSERT INTO diary_operation_keys (user_id, idempotency_key, op, status, diary_id)
+            VALUES (:userId, :key, :op, :status, :diaryId)
+            ON CONFLICT (user_id, idempotency_key) DO NOTHING
+            """;
+
+    private static final String PURGE_SQL = "DELETE FROM diary_operation_keys WHERE created_at < :before";
+
+    private static final RowMapper<DiaryOperationKey> MAPPER = (rs, rowNum) -> new DiaryOperationKey(
+            rs.getString("idempotency_key"),
+            DiaryBatchOperation.Type.valueOf(rs.getString("op")),
+            DiaryBatchResult.Status.valueOf(rs.getString("status")),
+            rs.getObject("diary_id", Long.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 기록된 키를 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param keys   멱등 키 목록 (비어 있으면 조회하지 않는다)
+     * @return 기록된 키 목록
+     */
+    public List<DiaryOperationKey> findByKeys(Long userId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("keys", keys), MAPPER);
+    }
+
+    /**
+     * 처리한 연산의 키를 한 번의 배치로 기록한다.
+     *
+     * @param userId 사용자 ID
+     * @param keys   기록할 키 목록
+     * @return 다른 트랜잭션이 먼저 기록해 건너뛴 키가 있으면 false
+     */
+    public boolean insertAll(Long userId, List<DiaryOperationKey> keys) {
+        if (keys.isEmpty()) {
+            return true;
+        }
+        SqlParameterSource[] batch = keys.stream()
+                .map(key -> new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("key", key.idempotencyKey())
+                        .addValue("op", key.op().name())
+                        .addValue("status", key.status().name())
+                        .addValue("diaryId", key.diaryId()))
+                .toArray(SqlParameterSource[]::new);
+        for (int inserted : jdbcTemplate.batchUpdate(INSERT_SQL, batch)) {
+            if (inserted == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기준 시각 이전에 기록된 키를 지운다.
+     *
+     * @param before 기준 시각 (미포함)
+     * @return 지운 키 수
+     */
+    public int purge(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource("before", Timestamp.valueOf(before)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.mamuriapp.diary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 일기 파티션 리포지토리.
+ * diaries는 diary_date 기준 월별 범위 파티션이며, 파티션 이름은 diaries_pYYYYMM이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiaryPartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'diaries'::regclass
+            """;
+
+    /** 이름과 범위는 YearMonth에서만 만들어지므로 그대로 이어 붙여도 안전하다. */
+    private static final String CREATE_SQL =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF diaries FOR VALUES FROM ('%s') TO ('%s')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 월의 파티션 이름을 만든다.
+     *
+     * @param month 대상 월
+     * @return 파티션 이름 (예: diaries_p202611)
+     */
+    public static String partitionName(YearMonth month) {
+        return "diaries_p" + month.format(SUFFIX);
+    }
+
+    /**
+     * 현재 파티션 이름 목록을 조회한다.
+     *
+     * @return 파티션 이름 집합 (기본 파티션 포함)
+     */
+    public Set<String> findPartitionNames() {
+        return new HashSet<>(jdbcTemplate.queryForList(PARTITIONS_SQL, String.class));
+    }
+
+    /**
+     * 월 파티션을 만든다.
+     * 기본 파티션에 그 달의 행이 이미 있으면 실패한다.
+     *
+     * @param month 대상 월
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(CREATE_SQL,
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+}
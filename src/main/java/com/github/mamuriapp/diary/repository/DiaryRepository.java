@@ -1,11 +1,14 @@
 package com.github.mamuriapp.diary.repository;
 
 import com.github.mamuriapp.diary.entity.Diary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,24 @@ import java.util.Optional;
  */
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
+    /**
+     * 목록용 요약 프로젝션 SELECT 절.
+     * 본문은 앞부분만 잘라서 가져오고, AI 코멘트는 존재 여부만 확인한다.
+     */
+    String SUMMARY_SELECT = "SELECT d.id AS id, d.title AS title, " +
+            "d.diaryDate AS diaryDate, d.createdAt AS createdAt, " +
+            "SUBSTRING(d.content, 1, :excerptLength) AS excerpt, " +
+            "CASE WHEN c.id IS NOT NULL THEN true ELSE false END AS hasAiComment " +
+            "FROM Diary d LEFT JOIN AiComment c ON c.diary = d ";
+
+    /**
+     * id 단건 조회 조건. diary_locations에서 날짜를 먼저 찾아 파티션 하나만 읽는다 (실행 시점 파티션 제외).
+     */
+    String BY_ID = "d.id = :id AND d.diaryDate = (SELECT l.diaryDate FROM DiaryLocation l WHERE l.id = :id) ";
+
+    /** 목록 정렬 기준 (diary_date DESC, created_at DESC, id DESC) */
+    String SUMMARY_ORDER = "ORDER BY d.diaryDate DESC, d.createdAt DESC, d.id DESC";
+
     /**
      * 사용자의 일기 목록을 최신순으로 조회한다.
      *
@@ -29,7 +50,43 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
      * @param userId 사용자 ID
      * @return 일기 Optional
      */
-    Optional<Diary> findByIdAndUserId(Long id, Long userId);
+    @Query("SELECT d FROM Diary d WHERE " + BY_ID + "AND d.user.id = :userId")
+    Optional<Diary> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 사용자의 특정 일기 존재 여부를 확인한다.
+     *
+     * @param id     일기 ID
+     * @param userId 사용자 ID
+     * @return 존재하면 true
+     */
+    @Query("SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END FROM Diary d WHERE " + BY_ID + "AND d.user.id = :userId")
+    boolean existsByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 사용자의 일기 중 ID 목록에 해당하는 일기를 한 번에 조회한다.
+     * 날짜 목록은 {@link DiaryLocationRepository#findDiaryDatesByIdIn}으로 먼저 구해 해당 파티션만 읽는다.
+     *
+     * @param userId 사용자 ID
+     * @param ids    일기 ID 목록
+     * @param dates  대상 일기들의 날짜 목록
+     * @return 일기 목록 (다른 사용자의 일기나 없는 ID는 제외)
+     */
+    List<Diary> findByUserIdAndIdInAndDiaryDateIn(Long userId, Collection<Long> ids, Collection<LocalDate> dates);
+
+    /**
+     * 사용자의 특정 일기를 AI 코멘트와 함께 한 번의 쿼리로 조회한다.
+     *
+     * @param id     일기 ID
+     * @param userId 사용자 ID
+     * @return 일기와 AI 코멘트 Optional
+     */
+    @Query("SELECT new com.github.mamuriapp.diary.repository.DiaryWithComment(d, c) " +
+           "FROM Diary d LEFT JOIN AiComment c ON c.diary = d " +
+           "WHERE " + BY_ID + "AND d.user.id = :userId")
+    Optional<DiaryWithComment> findWithCommentByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId);
 
     /**
      * 사용자의 일기 목록을 일기 날짜 기준 최신순으로 조회한다.
@@ -39,6 +96,76 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
      */
     List<Diary> findByUserIdOrderByDiaryDateDescCreatedAtDesc(Long userId);
 
+    /**
+     * 사용자의 전체 일기 요약 목록을 일기 날짜 기준 최신순으로 조회한다.
+     *
+     * @param userId        사용자 ID
+     * @param excerptLength 미리보기 최대 글자 수
+     * @return 일기 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE d.user.id = :userId " + SUMMARY_ORDER)
+    List<DiarySummary> findSummariesByUserId(
+            @Param("userId") Long userId,
+            @Param("excerptLength") int excerptLength);
+
+    /**
+     * 사용자의 일기 요약 첫 페이지를 조회한다 (keyset 페이지네이션).
+     * idx_diary_user_date 인덱스의 (user_id, diary_date DESC) 순서를 그대로 따른다.
+     *
+     * @param userId        사용자 ID
+     * @param excerptLength 미리보기 최대 글자 수
+     * @param limit         최대 조회 건수
+     * @return 일기 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE d.user.id = :userId " + SUMMARY_ORDER)
+    List<DiarySummary> findFirstPageByUserId(
+            @Param("userId") Long userId,
+            @Param("excerptLength") int excerptLength,
+            Limit limit);
+
+    /**
+     * 커서 이후의 일기 요약 페이지를 조회한다 (keyset 페이지네이션).
+     * OFFSET 없이 마지막 정렬 키 (diary_date, created_at, id) 보다 뒤의 행만 읽는다.
+     *
+     * @param userId        사용자 ID
+     * @param diaryDate     커서의 일기 날짜
+     * @param createdAt     커서의 작성 시각
+     * @param id            커서의 일기 ID
+     * @param excerptLength 미리보기 최대 글자 수
+     * @param limit         최대 조회 건수
+     * @return 일기 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE d.user.id = :userId " +
+           "AND (d.diaryDate < :diaryDate " +
+           "OR (d.diaryDate = :diaryDate AND d.createdAt < :createdAt) " +
+           "OR (d.diaryDate = :diaryDate AND d.createdAt = :createdAt AND d.id < :id)) " +
+           SUMMARY_ORDER)
+    List<DiarySummary> findPageByUserIdAfterCursor(
+            @Param("userId") Long userId,
+            @Param("diaryDate") LocalDate diaryDate,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("excerptLength") int excerptLength,
+            Limit limit);
+
+    /**
+     * 사용자의 특정 기간 일기 요약 목록을 조회한다.
+     *
+     * @param userId        사용자 ID
+     * @param startDate     시작 날짜 (포함)
+     * @param endDate       종료 날짜 (포함)
+     * @param excerptLength 미리보기 최대 글자 수
+     * @return 일기 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE d.user.id = :userId " +
+           "AND d.diaryDate >= :startDate AND d.diaryDate <= :endDate " +
+           SUMMARY_ORDER)
+    List<DiarySummary> findSummariesByUserIdAndPeriod(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("excerptLength") int excerptLength);
+
     /**
      * 사용자의 특정 기간 일기 목록을 조회한다.
      *
@@ -0,0 +1,120 @@
+package com.github.mamuriapp.diary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 일기 전문 검색 리포지토리.
+ * pg_trgm 연산과 관련도 정렬은 JPQL로 표현할 수 없어 JDBC로 직접 조회한다.
+ * 필터는 idx_diary_search_trgm 인덱스(user_id, title || ' ' || content)와 같은 표현식을 사용하고,
+ * (관련도 DESC, id DESC) 순서로 keyset 페이지네이션한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiarySearchRepository {
+
+    /**
+     * 관련도: 제목에 검색어가 있으면 1점을 더하고, 단어 유사도(0~1)로 나머지를 가른다.
+     * 스니펫: 본문의 첫 일치 위치에서 :lead 글자 앞부터 :snippetLength 글자를 자른다.
+     */
+    private static final String SEARCH_SELECT = """
+            SELECT id, title, snippet, diary_date, created_at, has_ai_comment, rank
+            FROM (
+                SELECT d.id, d.title, d.diary_date, d.created_at,
+                       c.id IS NOT NULL AS has_ai_comment,
+                       CAST((CASE WHEN d.title ILIKE :pattern ESCAPE '\\' THEN 1 ELSE 0 END)
+                            + word_similarity(:query, d.title || ' ' || d.content) AS DOUBLE PRECISION) AS rank,
+                       SUBSTR(d.content,
+                              GREATEST(STRPOS(LOWER(d.content), LOWER(:query)) - :lead, 1),
+                              :snippetLength) AS snippet
+                FROM diaries d
+                LEFT JOIN ai_comments c ON c.diary_id = d.id
+                WHERE d.user_id = :userId
+                  AND (d.title || ' ' || d.content) ILIKE :pattern ESCAPE '\\'
+            ) matched
+            """;
+
+    private static final String SEARCH_ORDER = "ORDER BY rank DESC, id DESC\nLIMIT :limit";
+
+    private static final String FIRST_PAGE_SQL = SEARCH_SELECT + SEARCH_ORDER;
+
+    private static final String AFTER_CURSOR_SQL = SEARCH_SELECT
+            + "WHERE rank < :cursorRank OR (rank = :cursorRank AND id < :cursorId)\n" + SEARCH_ORDER;
+
+    private static final RowMapper<DiarySearchRow> ROW_MAPPER = (rs, rowNum) -> new DiarySearchRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("snippet"),
+            rs.getDate("diary_date").toLocalDate(),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getBoolean("has_ai_comment"),
+            rs.getDouble("rank"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 결과 첫 페이지를 조회한다.
+     *
+     * @param userId        사용자 ID
+     * @param query         정규화된 검색어
+     * @param lead          스니펫에서 일치 위치 앞에 남길 글자 수
+     * @param snippetLength 스니펫 최대 글자 수
+     * @param limit         최대 조회 건수
+     * @return 관련도순 검색 결과
+     */
+    public List<DiarySearchRow> findFirstPage(Long userId, String query, int lead, int snippetLength, int limit) {
+        return jdbcTemplate.query(FIRST_PAGE_SQL,
+                params(userId, query, lead, snippetLength, limit), ROW_MAPPER);
+    }
+
+    /**
+     * 커서 이후의 검색 결과 페이지를 조회한다.
+     *
+     * @param userId        사용자 ID
+     * @param query         정규화된 검색어
+     * @param cursorRank    커서의 관련도
+     * @param cursorId      커서의 일기 ID
+     * @param lead          스니펫에서 일치 위치 앞에 남길 글자 수
+     * @param snippetLength 스니펫 최대 글자 수
+     * @param limit         최대 조회 건수
+     * @return 관련도순 검색 결과
+     */
+    public List<DiarySearchRow> findPageAfterCursor(Long userId, String query, double cursorRank, Long cursorId,
+                                                    int lead, int snippetLength, int limit) {
+        return jdbcTemplate.query(AFTER_CURSOR_SQL,
+                params(userId, query, lead, snippetLength, limit)
+                        .addValue("cursorRank", cursorRank)
+                        .addValue("cursorId", cursorId),
+                ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource params(Long userId, String query, int lead, int snippetLength, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("query", query)
+                .addValue("pattern", "%" + escapeLike(query) + "%")
+                .addValue("lead", lead)
+                .addValue("snippetLength", snippetLength)
+                .addValue("limit", limit);
+    }
+
+    /**
+     * LIKE 패턴의 특수 문자(\, %, _)를 이스케이프한다.
+     */
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\\' || ch == '%' || ch == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(ch);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.mamuriapp.diary.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 검색 결과 한 행.
+ * 본문 전체 대신 첫 일치 위치 주변만 잘라낸 스니펫을 담는다.
+ *
+ * @param id           일기 ID
+ * @param title        제목
+ * @param snippet      본문 중 첫 일치 위치 주변 (본문에 일치가 없으면 앞부분)
+ * @param diaryDate    일기 날짜
+ * @param createdAt    작성 시각
+ * @param hasAiComment AI 코멘트 존재 여부
+ * @param rank         관련도 점수 (높을수록 먼저)
+ */
+public record DiarySearchRow(Long id, String title, String snippet, LocalDate diaryDate,
+                             LocalDateTime createdAt, boolean hasAiComment, double rank) {
+}
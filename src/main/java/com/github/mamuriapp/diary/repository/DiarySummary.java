@@ -0,0 +1,25 @@
+package com.github.mamuriapp.diary.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 목록용 경량 프로젝션.
+ * 엔티티를 로딩하지 않고 목록 화면에 필요한 컬럼과 본문 앞부분만 조회한다.
+ */
+public interface DiarySummary {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDate getDiaryDate();
+
+    LocalDateTime getCreatedAt();
+
+    /** 본문 앞부분 (서버에서 잘라낸 미리보기) */
+    String getExcerpt();
+
+    /** AI 코멘트 존재 여부 */
+    Boolean getHasAiComment();
+}
@@ -0,0 +1,13 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.ai.entity.AiComment;
+import com.github.mamuriapp.diary.entity.Diary;
+
+/**
+ * 일기와 AI 코멘트를 한 번의 조회로 함께 담는 결과 레코드.
+ *
+ * @param diary     일기 엔티티
+ * @param aiComment AI 코멘트 엔티티 (없으면 null)
+ */
+public record DiaryWithComment(Diary diary, AiComment aiComment) {
+}
@@ -0,0 +1,283 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.service.AiCommentJobService;
+import com.github.mamuriapp.ai.service.AiCommentRetryService;
+import com.github.mamuriapp.diary.config.DiaryBatchProperties;
+import com.github.mamuriapp.diary.dto.DiaryBatchOperation;
+import com.github.mamuriapp.diary.dto.DiaryBatchRequest;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.diary.repository.DiaryLocationRepository;
+import com.github.mamuriapp.diary.repository.DiaryOperationKey;
+import com.github.mamuriapp.diary.repository.DiaryOperationKeyRepository;
+import com.github.mamuriapp.diary.repository.DiaryRepository;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 일괄 쓰기 서비스.
+ * 오프라인 클라이언트가 쌓아 둔 작성·수정·삭제 연산을 순서대로 하나의 트랜잭션에서 적용한다.
+ * 대상 일기는 IN 쿼리 한 번으로 읽고, 새 일기의 ID는 시퀀스에서 미리 받아 두므로
+ * INSERT·UPDATE는 커밋 시점에 JDBC 배치로 묶여 나간다.
+ * AI 코멘트는 연산 도중 생성하지 않고, 모드와 무관하게 작업 테이블에 한꺼번에 등록해 워커가 커밋 이후에 생성한다.
+ * 동기 모드에서 요청 스레드가 일기마다 LLM을 부르면 응답이 연산 수만큼 늦어지고 사용자 호출 한도에도 걸리기 때문이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryBatchService {
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryLocationRepository diaryLocationRepository;
+    private final DiaryOperationKeyRepository diaryOperationKeyRepository;
+    private final UserRepository userRepository;
+    private final AiCommentJobService aiCommentJobService;
+    private final AiCommentRetryService aiCommentRetryService;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final DiaryBatchProperties diaryBatchProperties;
+
+    /**
+     * 연산 목록을 순서대로 적용한다.
+     * 이미 처리한 멱등 키의 연산은 다시 적용하지 않고 DUPLICATE로 돌려주며,
+     * 대상 일기가 없거나 이미 삭제된 수정·삭제는 전체를 롤백하지 않고 NOT_FOUND로 건너뛴다.
+     * 새 일기의 AI 코멘트는 생성 작업으로 등록하고 PENDING 상태로 돌려준다.
+     *
+     * @param userId  사용자 ID
+     * @param request 일괄 쓰기 요청
+     * @return 요청과 같은 순서의 연산별 결과
+     * @throws CustomException 연산 수가 한도를 넘거나, 요청 안에 같은 멱등 키가 있거나,
+     *                         작성·수정에 제목·본문이 없거나 수정·삭제에 대상이 없으면 INVALID_INPUT.
+     *                         같은 키를 가진 다른 요청이 동시에 커밋되면 DUPLICATE_OPERATION
+     */
+    @Transactional
+    public List<DiaryBatchResult> apply(Long userId, DiaryBatchRequest request) {
+        List<DiaryBatchOperation> operations = request.getOperations();
+        validate(operations);
+
+        Map<String, DiaryOperationKey> recorded = findRecordedKeys(userId, operations);
+        Map<Long, Diary> diaries = findTargets(userId, operations, recorded);
+        // 사용자 행은 읽지 않고 FK 값만 채운다.
+        User user = userRepository.getReferenceById(userId);
+
+        Map<String, Diary> created = new HashMap<>();
+        List<Diary> newDiaries = new ArrayList<>();
+        List<DiaryOperationKey> applied = new ArrayList<>();
+        List<DiaryOperationKey> outcomes = new ArrayList<>(operations.size());
+
+        for (DiaryBatchOperation operation : operations) {
+            DiaryOperationKey previous = recorded.get(operation.getIdempotencyKey());
+            if (previous != null) {
+                outcomes.add(previous);
+                continue;
+            }
+
+            DiaryOperationKey outcome = switch (operation.getOp()) {
+                case CREATE -> {
+                    Diary diary = Diary.builder()
+                            .user(user)
+                            .title(operation.getTitle())
+                            .content(operation.getContent())
+                            .diaryDate(operation.getDiaryDate())
+                            .build();
+                    diaryRepository.save(diary);
+                    created.put(operation.getIdempotencyKey(), diary);
+                    newDiaries.add(diary);
+                    diaryCalendarCache.markAfterCommit(userId, diary.getDiaryDate());
+                    yield applied(operation, diary);
+                }
+                case UPDATE -> {
+                    Diary diary = resolveTarget(operation, created, recorded, diaries);
+                    if (diary == null) {
+                        yield notFound(operation);
+                    }
+                    LocalDate previousDate = diary.getDiaryDate();
+                    diary.update(operation.getTitle(), operation.getContent(), operation.getDiaryDate());
+                    aiCommentRetryService.evict(diary.getId());
+                    if (!previousDate.equals(diary.getDiaryDate())) {
+                        diaryCalendarCache.evictAfterCommit(userId, previousDate);
+                        diaryCalendarCache.markAfterCommit(userId, diary.getDiaryDate());
+                    }
+                    yield applied(operation, diary);
+                }
+                case DELETE -> {
+                    Diary diary = resolveTarget(operation, created, recorded, diaries);
+                    if (diary == null) {
+                        yield notFound(operation);
+                    }
+                    diaryRepository.delete(diary);
+                    diaries.remove(diary.getId());
+                    created.values().remove(diary);
+                    newDiaries.remove(diary);
+                    diaryCalendarCache.evictAfterCommit(userId, diary.getDiaryDate());
+                    yield applied(operation, diary);
+                }
+            };
+            applied.add(outcome);
+            outcomes.add(outcome);
+        }
+
+        if (!diaryOperationKeyRepository.insertAll(userId, applied)) {
+            // 같은 키를 가진 다른 요청이 먼저 커밋했다. 롤백 후 재전송하면 DUPLICATE로 응답된다.
+            throw new CustomException(ErrorCode.DUPLICATE_OPERATION);
+        }
+
+        AiCommentResponse pending = null;
+        Set<Long> enqueued = new HashSet<>();
+        if (!newDiaries.isEmpty()) {
+            pending = aiCommentJobService.enqueueAll(newDiaries);
+            newDiaries.forEach(diary -> enqueued.add(diary.getId()));
+        }
+
+        List<DiaryBatchResult> results = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            DiaryOperationKey outcome = outcomes.get(i);
+            boolean duplicate = recorded.containsKey(operations.get(i).getIdempotencyKey());
+            results.add(new DiaryBatchResult(
+                    outcome.idempotencyKey(),
+                    outcome.op(),
+                    duplicate ? DiaryBatchResult.Status.DUPLICATE : outcome.status(),
+                    outcome.diaryId(),
+                    !duplicate && outcome.op() == DiaryBatchOperation.Type.CREATE
+                            && enqueued.contains(outcome.diaryId()) ? pending : null));
+        }
+        log.debug("일기 일괄 쓰기 (userId={}, operations={}, applied={})",
+                userId, operations.size(), applied.size());
+        return results;
+    }
+
+    /**
+     * 보관 기간이 지난 멱등 키를 지운다.
+     */
+    @Scheduled(fixedDelayString = "${diary.batch.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeKeys() {
+        LocalDateTime before = LocalDateTime.now().minusDays(diaryBatchProperties.getKeyRetentionDays());
+        int purged = diaryOperationKeyRepository.purge(before);
+        if (purged > 0) {
+            log.info("만료된 일괄 쓰기 멱등 키 정리 ({}건)", purged);
+        }
+    }
+
+    private void validate(List<DiaryBatchOperation> operations) {
+        if (operations.size() > diaryBatchProperties.getMaxOperations()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        Set<String> keys = new HashSet<>();
+        for (DiaryBatchOperation operation : operations) {
+            if (!keys.add(operation.getIdempotencyKey())) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            boolean hasTarget = operation.getDiaryId() != null || operation.getTargetKey() != null;
+            boolean valid = switch (operation.getOp()) {
+                case CREATE -> !isBlank(operation.getTitle()) && !isBlank(operation.getContent());
+                case UPDATE -> hasTarget && !isBlank(operation.getTitle()) && !isBlank(operation.getContent());
+                case DELETE -> hasTarget;
+            };
+            if (!valid) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+        }
+    }
+
+    /**
+     * 연산의 멱등 키와 대상 키 중 이미 기록된 것을 한 번에 읽는다.
+     */
+    private Map<String, DiaryOperationKey> findRecordedKeys(Long userId, List<DiaryBatchOperation> operations) {
+        Set<String> keys = new HashSet<>();
+        for (DiaryBatchOperation operation : operations) {
+            keys.add(operation.getIdempotencyKey());
+            if (operation.getTargetKey() != null) {
+                keys.add(operation.getTargetKey());
+            }
+        }
+        return diaryOperationKeyRepository.findByKeys(userId, keys).stream()
+                .collect(Collectors.toMap(DiaryOperationKey::idempotencyKey, Function.identity()));
+    }
+
+    /**
+     * 수정·삭제 대상이 될 수 있는 기존 일기를 한 번의 IN 쿼리로 읽는다.
+     * 이전 요청에서 만든 일기를 targetKey로 가리키면 기록된 ID로 찾는다.
+     * 대상 일기들의 날짜를 먼저 구해 해당 월 파티션만 읽는다.
+     */
+    private Map<Long, Diary> findTargets(Long userId, List<DiaryBatchOperation> operations,
+                                         Map<String, DiaryOperationKey> recorded) {
+        Set<Long> ids = new HashSet<>();
+        for (DiaryBatchOperation operation : operations) {
+            if (operation.getOp() == DiaryBatchOperation.Type.CREATE
+                    || recorded.containsKey(operation.getIdempotencyKey())) {
+                continue;
+            }
+            if (operation.getDiaryId() != null) {
+                ids.add(operation.getDiaryId());
+            } else {
+                DiaryOperationKey target = recorded.get(operation.getTargetKey());
+                if (target != null && target.op() == DiaryBatchOperation.Type.CREATE && target.diaryId() != null) {
+                    ids.add(target.diaryId());
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<LocalDate> dates = diaryLocationRepository.findDiaryDatesByIdIn(ids);
+        if (dates.isEmpty()) {
+            return new HashMap<>();
+        }
+        return diaryRepository.findByUserIdAndIdInAndDiaryDateIn(userId, ids, dates).stream()
+                .collect(Collectors.toMap(Diary::getId, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    /**
+     * 수정·삭제 대상 일기를 찾는다. 같은 요청에서 만든 일기가 먼저다.
+     *
+     * @return 대상 일기 (없거나 이미 삭제되었으면 null)
+     */
+    private Diary resolveTarget(DiaryBatchOperation operation, Map<String, Diary> created,
+                                Map<String, DiaryOperationKey> recorded, Map<Long, Diary> diaries) {
+        if (operation.getDiaryId() != null) {
+            return diaries.get(operation.getDiaryId());
+        }
+        Diary createdNow = created.get(operation.getTargetKey());
+        if (createdNow != null) {
+            return createdNow;
+        }
+        DiaryOperationKey target = recorded.get(operation.getTargetKey());
+        if (target == null || target.op() != DiaryBatchOperation.Type.CREATE || target.diaryId() == null) {
+            return null;
+        }
+        return diaries.get(target.diaryId());
+    }
+
+    private static DiaryOperationKey applied(DiaryBatchOperation operation, Diary diary) {
+        return new DiaryOperationKey(operation.getIdempotencyKey(), operation.getOp(),
+                DiaryBatchResult.Status.APPLIED, diary.getId());
+    }
+
+    private static DiaryOperationKey notFound(DiaryBatchOperation operation) {
+        return new DiaryOperationKey(operation.getIdempotencyKey(), operation.getOp(),
+                DiaryBatchResult.Status.NOT_FOUND, null);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
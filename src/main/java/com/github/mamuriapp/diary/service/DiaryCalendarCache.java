@@ -0,0 +1,189 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.mamuriapp.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 캘린더 점유 비트마스크 캐시.
+ * 사용자·월 단위로 일기가 있는 날짜를 31비트 마스크(1일 = bit 0)로 보관한다.
+ * 캐시 미스 시에만 DB를 조회하며, 일기 작성/수정/삭제 시 커밋 이후에 갱신된다.
+ * 단건 로딩(get)은 해시 버킷 모니터를 잡은 채 DB를 조회해 가상 스레드를 고정시키므로,
+ * 단건 조회도 락 밖에서 로더를 호출하는 일괄 로딩(getAll) 경로를 사용한다.
+ */
+@Slf4j
+@Component
+public class DiaryCalendarCache {
+
+    /** 캐시 최대 항목 수 (사용자 × 월) */
+    private static final long MAX_ENTRIES = 100_000;
+
+    /** 마지막 접근 이후 만료 시간 */
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(6);
+
+    private final DiaryRepository diaryRepository;
+    private final LoadingCache<MonthKey, Integer> cache;
+
+    public DiaryCalendarCache(DiaryRepository diaryRepository) {
+        this.diaryRepository = diaryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Integer load(MonthKey key) {
+                        return loadMonth(key);
+                    }
+
+                    @Override
+                    public Map<MonthKey, Integer> loadAll(Set<? extends MonthKey> keys) {
+                        return loadMonths(keys);
+                    }
+                });
+    }
+
+    /**
+     * 사용자의 특정 월 점유 마스크를 조회한다.
+     *
+     * @param userId    사용자 ID
+     * @param yearMonth 조회 월
+     * @return 일기가 있는 날짜의 비트가 켜진 마스크
+     */
+    public int getMonth(Long userId, YearMonth yearMonth) {
+        MonthKey key = new MonthKey(userId, yearMonth);
+        return cache.getAll(List.of(key)).getOrDefault(key, 0);
+    }
+
+    /**
+     * 사용자의 1년치 점유 마스크를 조회한다.
+     * 캐시에 없는 월들은 한 번의 DB 조회로 함께 채운다.
+     *
+     * @param userId 사용자 ID
+     * @param year   조회 연도
+     * @return 1월부터 12월까지의 마스크 배열 (길이 12)
+     */
+    public int[] getYear(Long userId, int year) {
+        List<MonthKey> keys = IntStream.rangeClosed(1, 12)
+                .mapToObj(month -> new MonthKey(userId, YearMonth.of(year, month)))
+                .toList();
+        Map<MonthKey, Integer> masks = cache.getAll(keys);
+
+        int[] result = new int[12];
+        for (int i = 0; i < 12; i++) {
+            result[i] = masks.getOrDefault(keys.get(i), 0);
+        }
+        return result;
+    }
+
+    /**
+     * 일기 작성 후 해당 날짜의 비트를 켠다 (커밋 이후 반영).
+     * 캐시에 없는 월은 다음 조회 시 DB에서 로딩되므로 건드리지 않는다.
+     *
+     * @param userId    사용자 ID
+     * @param diaryDate 일기 날짜
+     */
+    public void markAfterCommit(Long userId, LocalDate diaryDate) {
+        afterCommit(() -> cache.asMap().computeIfPresent(
+                MonthKey.of(userId, diaryDate),
+                (key, mask) -> mask | dayBit(diaryDate)));
+    }
+
+    /**
+     * 일기 삭제 또는 날짜 이동 후 해당 월 항목을 무효화한다 (커밋 이후 반영).
+     * 같은 날짜에 다른 일기가 남아 있을 수 있으므로 비트를 끄지 않고 DB에서 다시 읽게 한다.
+     *
+     * @param userId    사용자 ID
+     * @param diaryDate 삭제되었거나 이동 전의 일기 날짜
+     */
+    public void evictAfterCommit(Long userId, LocalDate diaryDate) {
+        afterCommit(() -> cache.invalidate(MonthKey.of(userId, diaryDate)));
+    }
+
+    /**
+     * 마스크를 날짜 목록으로 변환한다.
+     *
+     * @param yearMonth 대상 월
+     * @param mask      점유 마스크
+     * @return 일기가 있는 날짜 목록 (오름차순)
+     */
+    public static List<LocalDate> toDates(YearMonth yearMonth, int mask) {
+        return IntStream.rangeClosed(1, yearMonth.lengthOfMonth())
+                .filter(day -> (mask & (1 << (day - 1))) != 0)
+                .mapToObj(yearMonth::atDay)
+                .toList();
+    }
+
+    private int loadMonth(MonthKey key) {
+        List<LocalDate> dates = diaryRepository.findDiaryDatesByUserIdAndPeriod(
+                key.userId(), key.yearMonth().atDay(1), key.yearMonth().atEndOfMonth());
+        int mask = 0;
+        for (LocalDate date : dates) {
+            mask |= dayBit(date);
+        }
+        return mask;
+    }
+
+    private Map<MonthKey, Integer> loadMonths(Set<? extends MonthKey> keys) {
+        Map<Long, List<MonthKey>> byUser = new HashMap<>();
+        for (MonthKey key : keys) {
+            byUser.computeIfAbsent(key.userId(), id -> new ArrayList<>()).add(key);
+        }
+
+        Map<MonthKey, Integer> result = new HashMap<>();
+        byUser.forEach((userId, userKeys) -> {
+            YearMonth first = userKeys.stream().map(MonthKey::yearMonth)
+                    .min(YearMonth::compareTo).orElseThrow();
+            YearMonth last = userKeys.stream().map(MonthKey::yearMonth)
+                    .max(YearMonth::compareTo).orElseThrow();
+
+            userKeys.forEach(key -> result.put(key, 0));
+            List<LocalDate> dates = diaryRepository.findDiaryDatesByUserIdAndPeriod(
+                    userId, first.atDay(1), last.atEndOfMonth());
+            for (LocalDate date : dates) {
+                result.computeIfPresent(MonthKey.of(userId, date),
+                        (key, mask) -> mask | dayBit(date));
+            }
+        });
+        log.debug("캘린더 캐시 일괄 로딩 (months={})", keys.size());
+        return result;
+    }
+
+    private static int dayBit(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record MonthKey(Long userId, YearMonth yearMonth) {
+
+        static MonthKey of(Long userId, LocalDate date) {
+            return new MonthKey(userId, YearMonth.from(date));
+        }
+    }
+}
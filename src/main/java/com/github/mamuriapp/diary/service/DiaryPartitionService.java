@@ -0,0 +1,58 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.mamuriapp.diary.config.DiaryPartitionProperties;
+import com.github.mamuriapp.diary.repository.DiaryPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * 일기 파티션 관리 서비스.
+ * 이번 달부터 diary.partition.months-ahead 달 뒤까지의 월별 파티션을 미리 만든다.
+ * 시작 직후 한 번, 이후 주기적으로 확인하며, 여러 인스턴스가 동시에 실행해도 IF NOT EXISTS로 한 번만 만들어진다.
+ * 파티션이 없는 달의 일기는 기본 파티션에 들어가고, 그 뒤로는 그 달의 파티션을 만들 수 없으므로
+ * 확인 주기는 미리 만드는 기간보다 충분히 짧아야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryPartitionService {
+
+    private final DiaryPartitionRepository diaryPartitionRepository;
+    private final DiaryPartitionProperties diaryPartitionProperties;
+
+    /**
+     * 빠진 월별 파티션을 만든다.
+     */
+    @Scheduled(fixedDelayString = "${diary.partition.maintenance-interval-ms:21600000}")
+    public void createUpcomingPartitions() {
+        Set<String> existing;
+        try {
+            existing = diaryPartitionRepository.findPartitionNames();
+        } catch (DataAccessException e) {
+            log.warn("일기 파티션 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        YearMonth thisMonth = YearMonth.now();
+        for (int i = 0; i <= diaryPartitionProperties.getMonthsAhead(); i++) {
+            YearMonth month = thisMonth.plusMonths(i);
+            if (existing.contains(DiaryPartitionRepository.partitionName(month))) {
+                continue;
+            }
+            try {
+                diaryPartitionRepository.createPartition(month);
+                log.info("일기 파티션 생성 ({})", DiaryPartitionRepository.partitionName(month));
+            } catch (DataAccessException e) {
+                // 다른 인스턴스와 동시에 만들었거나, 기본 파티션에 그 달의 행이 이미 들어갔다.
+                log.error("일기 파티션 생성 실패 ({}): {}",
+                        DiaryPartitionRepository.partitionName(month), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,25 +1,41 @@
 package com.github.mamuriapp.diary.service;
 
 import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.service.AiCommentJobService;
+import com.github.mamuriapp.ai.service.AiCommentRetryService;
 import com.github.mamuriapp.ai.service.AiCommentService;
 import com.github.mamuriapp.diary.dto.DiaryCalendarResponse;
 import com.github.mamuriapp.diary.dto.DiaryCreateRequest;
+import com.github.mamuriapp.diary.dto.DiaryCursor;
 import com.github.mamuriapp.diary.dto.DiaryResponse;
+import com.github.mamuriapp.diary.dto.DiarySearchCursor;
+import com.github.mamuriapp.diary.dto.DiarySearchResponse;
+import com.github.mamuriapp.diary.dto.DiarySummaryResponse;
+import com.github.mamuriapp.diary.dto.DiaryYearCalendarResponse;
 import com.github.mamuriapp.diary.dto.DiaryUpdateRequest;
 import com.github.mamuriapp.diary.entity.Diary;
 import com.github.mamuriapp.diary.repository.DiaryRepository;
+import com.github.mamuriapp.diary.repository.DiarySearchRepository;
+import com.github.mamuriapp.diary.repository.DiarySearchRow;
+import com.github.mamuriapp.diary.repository.DiarySummary;
+import com.github.mamuriapp.diary.repository.DiaryWithComment;
+import com.github.mamuriapp.global.dto.CursorPageResponse;
 import com.github.mamuriapp.global.exception.CustomException;
 import com.github.mamuriapp.global.exception.ErrorCode;
 import com.github.mamuriapp.user.entity.User;
 import com.github.mamuriapp.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * 일기 서비스.
@@ -31,13 +47,36 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DiaryService {
 
+    /** 목록 페이지 기본 크기 */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** 목록 페이지 최대 크기 */
+    public static final int MAX_PAGE_SIZE = 50;
+
+    /** 목록 미리보기 최대 글자 수 */
+    public static final int EXCERPT_LENGTH = 100;
+
+    /** 검색어 최대 글자 수 */
+    public static final int MAX_SEARCH_QUERY_LENGTH = 50;
+
+    /** 검색 스니펫에서 일치 위치 앞에 남기는 글자 수 */
+    private static final int SNIPPET_LEAD = 30;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final DiaryRepository diaryRepository;
+    private final DiarySearchRepository diarySearchRepository;
     private final UserRepository userRepository;
     private final AiCommentService aiCommentService;
+    private final AiCommentJobService aiCommentJobService;
+    private final AiCommentRetryService aiCommentRetryService;
+    private final AiProperties aiProperties;
+    private final DiaryCalendarCache diaryCalendarCache;
 
     /**
      * 새로운 일기를 작성한다.
      * 저장 후 AI 코멘트를 자동 생성하되, AI 실패 시에도 일기는 정상 저장된다.
+     * 비동기 모드(ai.async.enabled)에서는 생성 작업만 등록하고 PENDING 상태를 반환한다.
      *
      * @param userId  작성자 ID
      * @param request 일기 작성 요청
@@ -59,6 +98,12 @@ public class DiaryService {
                 .diaryDate(diaryDate)
                 .build();
         diaryRepository.save(diary);
+        diaryCalendarCache.markAfterCommit(userId, diaryDate);
+
+        if (aiProperties.getAsync().isEnabled()) {
+            // 작업만 기록하고 즉시 반환한다. 워커가 커밋 이후에 코멘트를 생성한다.
+            return DiaryResponse.of(diary, aiCommentJobService.enqueue(diary));
+        }
 
         AiCommentResponse aiComment = null;
         try {
@@ -71,15 +116,95 @@ public class DiaryService {
     }
 
     /**
-     * 사용자의 일기 목록을 일기 날짜 기준으로 조회한다.
+     * 사용자의 일기 목록을 커서 기반으로 한 페이지씩 조회한다.
+     * (diary_date DESC, created_at DESC, id DESC) 순서이며,
+     * 페이지 크기는 {@link #MAX_PAGE_SIZE}를 넘지 않도록 제한된다.
      *
      * @param userId 사용자 ID
-     * @return 일기 응답 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   요청 페이지 크기 (null이면 기본값)
+     * @param includeComments AI 코멘트 포함 여부
+     * @return 일기 페이지 응답
      */
-    public List<DiaryResponse> getList(Long userId) {
-        return diaryRepository.findByUserIdOrderByDiaryDateDescCreatedAtDesc(userId).stream()
-                .map(DiaryResponse::from)
-                .toList();
+    public CursorPageResponse<DiarySummaryResponse> getPage(
+            Long userId, String cursor, Integer size, boolean includeComments) {
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회한다.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<DiarySummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = diaryRepository.findFirstPageByUserId(userId, EXCERPT_LENGTH, limit);
+        } else {
+            DiaryCursor after = DiaryCursor.decode(cursor);
+            summaries = diaryRepository.findPageByUserIdAfterCursor(
+                    userId, after.diaryDate(), after.createdAt(), after.id(),
+                    EXCERPT_LENGTH, limit);
+        }
+
+        boolean hasNext = summaries.size() > pageSize;
+        List<DiarySummary> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        String nextCursor = hasNext
+                ? DiaryCursor.from(page.get(page.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.of(toSummaryResponses(page, includeComments), nextCursor);
+    }
+
+    /**
+     * 사용자의 일기를 제목과 본문의 부분 문자열로 검색한다.
+     * 트라이그램 인덱스로 후보를 좁히고 관련도순으로 커서 기반 페이지를 반환하며,
+     * 각 결과에는 첫 일치 위치 주변 스니펫과 강조 구간이 포함된다.
+     *
+     * @param userId 사용자 ID
+     * @param query  검색어 (앞뒤 공백 제거, 연속 공백은 하나로 합친다)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   요청 페이지 크기 (null이면 기본값)
+     * @return 검색 결과 페이지 응답
+     * @throws CustomException 검색어가 비었거나 {@link #MAX_SEARCH_QUERY_LENGTH}자를 넘으면 INVALID_INPUT
+     */
+    public CursorPageResponse<DiarySearchResponse> search(
+            Long userId, String query, String cursor, Integer size) {
+        String normalized = query == null ? "" : WHITESPACE.matcher(query.strip()).replaceAll(" ");
+        if (normalized.isEmpty() || normalized.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회한다.
+        int limit = pageSize + 1;
+
+        List<DiarySearchRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = diarySearchRepository.findFirstPage(
+                    userId, normalized, SNIPPET_LEAD, EXCERPT_LENGTH, limit);
+        } else {
+            DiarySearchCursor after = DiarySearchCursor.decode(cursor);
+            rows = diarySearchRepository.findPageAfterCursor(
+                    userId, normalized, after.rank(), after.id(), SNIPPET_LEAD, EXCERPT_LENGTH, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DiarySearchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? DiarySearchCursor.from(page.get(page.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.of(
+                page.stream().map(row -> DiarySearchResponse.of(row, normalized)).toList(),
+                nextCursor);
+    }
+
+    /**
+     * 사용자의 전체 일기 목록을 일기 날짜 기준으로 조회한다.
+     * 페이지 제한이 없으므로 명시적으로 요청된 경우(all=true)에만 사용한다.
+     *
+     * @param userId          사용자 ID
+     * @param includeComments AI 코멘트 포함 여부
+     * @return 일기 요약 응답 목록
+     */
+    public List<DiarySummaryResponse> getList(Long userId, boolean includeComments) {
+        return toSummaryResponses(
+                diaryRepository.findSummariesByUserId(userId, EXCERPT_LENGTH), includeComments);
     }
 
     /**
@@ -88,20 +213,24 @@ public class DiaryService {
      * @param userId 사용자 ID
      * @param year   연도
      * @param month  월
-     * @return 일기 응답 목록
+     * @param includeComments AI 코멘트 포함 여부
+     * @return 일기 요약 응답 목록
      */
-    public List<DiaryResponse> getListByMonth(Long userId, int year, int month) {
+    public List<DiarySummaryResponse> getListByMonth(
+            Long userId, int year, int month, boolean includeComments) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        return diaryRepository.findByUserIdAndDiaryDateBetween(userId, startDate, endDate).stream()
-                .map(DiaryResponse::from)
-                .toList();
+        return toSummaryResponses(
+                diaryRepository.findSummariesByUserIdAndPeriod(
+                        userId, startDate, endDate, EXCERPT_LENGTH),
+                includeComments);
     }
 
     /**
      * 캘린더용 일기가 있는 날짜 목록을 조회한다.
+     * 월별 점유 마스크 캐시를 사용하며, 캐시 미스 시에만 DB를 조회한다.
      *
      * @param userId 사용자 ID
      * @param year   연도
@@ -110,13 +239,19 @@ public class DiaryService {
      */
     public DiaryCalendarResponse getCalendar(Long userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        List<LocalDate> dates = diaryRepository.findDiaryDatesByUserIdAndPeriod(
-                userId, startDate, endDate);
+        int mask = diaryCalendarCache.getMonth(userId, yearMonth);
+        return DiaryCalendarResponse.of(year, month, DiaryCalendarCache.toDates(yearMonth, mask));
+    }
 
-        return DiaryCalendarResponse.of(year, month, dates);
+    /**
+     * 연간 캘린더(히트맵)용 월별 점유 마스크를 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param year   연도
+     * @return 연간 캘린더 응답
+     */
+    public DiaryYearCalendarResponse getYearCalendar(Long userId, int year) {
+        return DiaryYearCalendarResponse.of(year, diaryCalendarCache.getYear(userId, year));
     }
 
     /**
@@ -127,9 +262,12 @@ public class DiaryService {
      * @return 일기 응답 (AI 코멘트 포함)
      */
     public DiaryResponse getDetail(Long userId, Long diaryId) {
-        Diary diary = findUserDiary(userId, diaryId);
-        AiCommentResponse aiComment = aiCommentService.getComment(diaryId);
-        return DiaryResponse.of(diary, aiComment);
+        DiaryWithComment result = diaryRepository.findWithCommentByIdAndUserId(diaryId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
+        AiCommentResponse aiComment = result.aiComment() != null
+                ? AiCommentResponse.from(result.aiComment())
+                : null;
+        return DiaryResponse.of(result.diary(), aiComment);
     }
 
     /**
@@ -143,7 +281,14 @@ public class DiaryService {
     @Transactional
     public DiaryResponse update(Long userId, Long diaryId, DiaryUpdateRequest request) {
         Diary diary = findUserDiary(userId, diaryId);
+        LocalDate previousDate = diary.getDiaryDate();
         diary.update(request.getTitle(), request.getContent(), request.getDiaryDate());
+        aiCommentRetryService.evict(diaryId);
+
+        if (!previousDate.equals(diary.getDiaryDate())) {
+            diaryCalendarCache.evictAfterCommit(userId, previousDate);
+            diaryCalendarCache.markAfterCommit(userId, diary.getDiaryDate());
+        }
         return DiaryResponse.from(diary);
     }
 
@@ -157,6 +302,35 @@ public class DiaryService {
     public void delete(Long userId, Long diaryId) {
         Diary diary = findUserDiary(userId, diaryId);
         diaryRepository.delete(diary);
+        diaryCalendarCache.evictAfterCommit(userId, diary.getDiaryDate());
+    }
+
+    /**
+     * 요약 목록을 응답으로 변환한다.
+     * AI 코멘트를 포함할 경우 일기 수와 관계없이 IN 쿼리 한 번으로 함께 조회한다.
+     */
+    private List<DiarySummaryResponse> toSummaryResponses(
+            List<DiarySummary> summaries, boolean includeComments) {
+        if (!includeComments) {
+            return summaries.stream().map(DiarySummaryResponse::from).toList();
+        }
+
+        List<Long> withComment = summaries.stream()
+                .filter(summary -> Boolean.TRUE.equals(summary.getHasAiComment()))
+                .map(DiarySummary::getId)
+                .toList();
+        Map<Long, AiCommentResponse> comments = aiCommentService.getComments(withComment);
+
+        return summaries.stream()
+                .map(summary -> DiarySummaryResponse.of(summary, comments.get(summary.getId())))
+                .toList();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     private Diary findUserDiary(Long userId, Long diaryId) {
@@ -0,0 +1,32 @@
+package com.github.mamuriapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 관리자 관련 설정값을 application.yml에서 바인딩한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "admin")
+public class AdminConfig {
+
+    /** 관리자 권한(ROLE_ADMIN)을 부여할 사용자 이메일 목록 */
+    private Set<String> emails = new HashSet<>();
+
+    /**
+     * 관리자 이메일인지 확인한다.
+     *
+     * @param email 사용자 이메일
+     * @return 관리자면 true
+     */
+    public boolean isAdmin(String email) {
+        return email != null && emails.contains(email);
+    }
+}
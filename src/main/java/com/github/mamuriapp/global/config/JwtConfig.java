@@ -22,4 +22,10 @@ public class JwtConfig {
 
     /** 리프레시 토큰 만료 시간 (밀리초) */
     private long refreshExpiration;
+
+    /** 검증된 토큰 캐시 사용 여부 (토큰의 exp까지만 유지) */
+    private boolean authCacheEnabled = false;
+
+    /** 검증된 토큰 캐시 최대 항목 수 */
+    private long authCacheMaxSize = 10_000;
 }
@@ -0,0 +1,13 @@
+package com.github.mamuriapp.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정.
+ * 안전 사전 버전 확인, AI 코멘트 작업 폴링 등 주기 작업을 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
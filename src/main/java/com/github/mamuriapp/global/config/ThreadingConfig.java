@@ -0,0 +1,67 @@
+package com.github.mamuriapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 스레드 실행 방식 설정.
+ * spring.threads.virtual.enabled=true이면 Spring Boot가 서블릿 요청과 스케줄러를 가상 스레드로 처리하고,
+ * 애플리케이션이 직접 만드는 AI 실행기(LLM 호출, 비동기 워커, 스트리밍, HTTP 클라이언트)도 같은 설정을 따른다.
+ * 가상 스레드 모드에서는 스레드 수 대신 각 실행기 앞의 세마포어나 벌크헤드가 동시 실행 수를 제한한다.
+ * JDK 21에서는 synchronized 블록 안에서 IO를 기다리는 가상 스레드가 캐리어 스레드에 고정되므로,
+ * IO(로그, JDBC, 파일, 응답 쓰기)를 감싸는 임계 구역은 synchronized 대신 ReentrantLock으로 보호한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "spring.threads.virtual")
+public class ThreadingConfig {
+
+    /** 가상 스레드 사용 여부 */
+    private boolean enabled = false;
+
+    /**
+     * 이름 접두사 뒤에 1부터 번호를 붙이는 스레드 팩토리를 만든다.
+     * 플랫폼 스레드는 종료를 막지 않도록 데몬으로 만든다.
+     *
+     * @param prefix 스레드 이름 접두사 (예: "llm-call-")
+     * @return 스레드 팩토리
+     */
+    public ThreadFactory threadFactory(String prefix) {
+        return enabled
+                ? Thread.ofVirtual().name(prefix, 1).factory()
+                : Thread.ofPlatform().name(prefix, 1).daemon(true).factory();
+    }
+
+    /**
+     * 크기가 정해진 실행기를 만든다.
+     * 가상 스레드 모드에서는 작업마다 스레드를 만들므로 호출자가 동시 실행 수를 따로 제한해야 한다.
+     *
+     * @param prefix          스레드 이름 접두사
+     * @param platformThreads 플랫폼 스레드 모드의 스레드 수
+     * @return 실행기
+     */
+    public ExecutorService newExecutor(String prefix, int platformThreads) {
+        return enabled
+                ? Executors.newThreadPerTaskExecutor(threadFactory(prefix))
+                : Executors.newFixedThreadPool(platformThreads, threadFactory(prefix));
+    }
+
+    /**
+     * 필요할 때마다 스레드를 늘리는 실행기를 만든다.
+     *
+     * @param prefix 스레드 이름 접두사
+     * @return 실행기
+     */
+    public ExecutorService newUnboundedExecutor(String prefix) {
+        return enabled
+                ? Executors.newThreadPerTaskExecutor(threadFactory(prefix))
+                : Executors.newCachedThreadPool(threadFactory(prefix));
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.mamuriapp.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답 DTO.
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    /**
+     * 현재 페이지 항목 목록.
+     */
+    private List<T> items;
+
+    /**
+     * 다음 페이지 조회용 불투명 커서 (마지막 페이지면 null).
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부.
+     */
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorPageResponse<>(items, nextCursor, nextCursor != null);
+    }
+}
@@ -23,13 +23,20 @@ public enum ErrorCode {
     // Diary
     DIARY_NOT_FOUND(HttpStatus.NOT_FOUND, "일기를 찾을 수 없습니다."),
     DIARY_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 일기에 접근할 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+
+    // Sync
+    INVALID_SYNC_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 동기화 토큰입니다."),
 
     // AI
     AI_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스에 일시적인 문제가 발생했습니다."),
     AI_COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "AI 코멘트를 찾을 수 없습니다."),
+    AI_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "AI 코멘트 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // General
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다."),
+    DUPLICATE_OPERATION(HttpStatus.CONFLICT, "같은 요청이 이미 처리 중입니다. 잠시 후 다시 시도해 주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 멱등 키가 다른 요청에 사용되었습니다."),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
     private final HttpStatus status;
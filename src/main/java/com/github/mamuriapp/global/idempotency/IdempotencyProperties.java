@@ -0,0 +1,34 @@
+package com.github.mamuriapp.global.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 헤더 처리 설정 프로퍼티.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /** 메모리에 보관하는 최대 응답 수. 넘치면 DB에서 찾는다. */
+    private long maxEntries = 10_000;
+
+    /** 응답 보관 기간 (초). 이후 같은 키는 새 요청으로 처리된다. */
+    private long ttlSeconds = 86_400;
+
+    /** 같은 키의 요청이 처리 중일 때 기다리는 최대 시간 (밀리초). 넘기면 409를 반환한다. */
+    private long waitTimeoutMs = 30_000;
+
+    /** 처리 중 표시 유지 시간 (밀리초). 처리하던 인스턴스가 죽으면 이 시간이 지난 뒤 다른 요청이 이어받는다. */
+    private long leaseMs = 120_000;
+
+    /** 다른 인스턴스가 처리 중인 요청의 완료를 DB에서 확인하는 주기 (밀리초) */
+    private long pollIntervalMs = 100;
+
+    /** 만료된 키 정리 주기 (밀리초) */
+    private long purgeIntervalMs = 3_600_000;
+}
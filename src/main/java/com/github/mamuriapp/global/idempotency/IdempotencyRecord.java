@@ -0,0 +1,11 @@
+package com.github.mamuriapp.global.idempotency;
+
+/**
+ * 저장된 멱등 요청 기록.
+ *
+ * @param fingerprint 요청 본문 해시
+ * @param completed   응답이 저장되었으면 true, 다른 요청이 처리 중이면 false
+ * @param response    JSON으로 직렬화한 응답 (처리 중이면 null)
+ */
+public record IdempotencyRecord(String fingerprint, boolean completed, String response) {
+}
@@ -0,0 +1,125 @@
+package com.github.mamuriapp.global.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등 요청 리포지토리.
+ * 호출자의 트랜잭션에 참여하지 않고 문장마다 바로 커밋되어야 다른 인스턴스가 처리 중 표시를 볼 수 있으므로
+ * 트랜잭션 밖에서 호출한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    private static final String FIND_SQL = """
+            SELECT fingerprint, status, response
+            FROM idempotency_keys
+            WHERE user_id = ? AND scope = ? AND idempotency_key = ? AND expires_at > ?
+            """;
+
+    /** 키가 없거나 만료되었을 때만 처리 중으로 차지한다. */
+    private static final String CLAIM_SQL = """
+            INSERT INTO idempotency_keys (user_id, scope, idempotency_key, fingerprint, status, expires_at)
+            VALUES (?, ?, ?, ?, 'IN_PROGRESS', ?)
+            ON CONFLICT (user_id, scope, idempotency_key) DO UPDATE
+            SET fingerprint = EXCLUDED.fingerprint,
+                status = EXCLUDED.status,
+                response = NULL,
+                created_at = CURRENT_TIMESTAMP,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys SET status = 'COMPLETED', response = ?, expires_at = ?
+            WHERE user_id = ? AND scope = ? AND idempotency_key = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_keys
+            WHERE user_id = ? AND scope = ? AND idempotency_key = ? AND status = 'IN_PROGRESS'
+            """;
+
+    private static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private static final RowMapper<IdempotencyRecord> MAPPER = (rs, rowNum) -> new IdempotencyRecord(
+            rs.getString("fingerprint"),
+            STATUS_COMPLETED.equals(rs.getString("status")),
+            rs.getString("response"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료되지 않은 기록을 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param scope  엔드포인트 구분
+     * @param key    멱등 키
+     * @param now    현재 시각
+     * @return 기록 Optional
+     */
+    public Optional<IdempotencyRecord> find(Long userId, String scope, String key, LocalDateTime now) {
+        return jdbcTemplate.query(FIND_SQL, MAPPER, userId, scope, key, Timestamp.valueOf(now))
+                .stream().findFirst();
+    }
+
+    /**
+     * 키를 처리 중으로 차지한다.
+     *
+     * @param userId      사용자 ID
+     * @param scope       엔드포인트 구분
+     * @param key         멱등 키
+     * @param fingerprint 요청 본문 해시
+     * @param now         현재 시각
+     * @param expiresAt   처리 중 표시의 만료 시각
+     * @return 차지했으면 true, 다른 요청이 이미 가지고 있으면 false
+     */
+    public boolean claim(Long userId, String scope, String key, String fingerprint,
+                         LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(CLAIM_SQL, userId, scope, key, fingerprint,
+                Timestamp.valueOf(expiresAt), Timestamp.valueOf(now)) > 0;
+    }
+
+    /**
+     * 응답을 저장하고 완료로 표시한다.
+     *
+     * @param userId    사용자 ID
+     * @param scope     엔드포인트 구분
+     * @param key       멱등 키
+     * @param response  JSON으로 직렬화한 응답
+     * @param expiresAt 응답 보관 만료 시각
+     */
+    public void complete(Long userId, String scope, String key, String response, LocalDateTime expiresAt) {
+        jdbcTemplate.update(COMPLETE_SQL, response, Timestamp.valueOf(expiresAt), userId, scope, key);
+    }
+
+    /**
+     * 처리에 실패한 키를 놓아 같은 키로 다시 시도할 수 있게 한다.
+     *
+     * @param userId 사용자 ID
+     * @param scope  엔드포인트 구분
+     * @param key    멱등 키
+     */
+    public void release(Long userId, String scope, String key) {
+        jdbcTemplate.update(RELEASE_SQL, userId, scope, key);
+    }
+
+    /**
+     * 만료된 기록을 지운다.
+     *
+     * @param now 현재 시각
+     * @return 지운 기록 수
+     */
+    public int purge(LocalDateTime now) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now));
+    }
+}
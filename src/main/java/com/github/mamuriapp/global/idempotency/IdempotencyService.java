@@ -0,0 +1,247 @@
+package com.github.mamuriapp.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리 서비스.
+ * 같은 사용자·엔드포인트·키의 요청은 한 번만 실행하고, 이후 요청에는 저장된 응답을 돌려준다.
+ * 응답은 크기가 제한된 메모리 캐시에 먼저 두고 DB(idempotency_keys)에도 남기므로
+ * 캐시에서 밀려났거나 다른 인스턴스가 처리한 요청도 다시 실행하지 않는다.
+ * 같은 키가 동시에 들어오면 뒤의 요청은 먼저 온 요청의 결과를 기다린다.
+ * 먼저 온 요청이 실패하면 키를 놓으므로, 기다리던 요청이나 재전송이 처음부터 다시 실행한다.
+ * 트랜잭션 안에서 호출하면 처리 중 표시가 다른 인스턴스에 보이지 않으므로 컨트롤러에서 호출한다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    /** 요청 헤더 이름 */
+    public static final String HEADER = "Idempotency-Key";
+
+    /** 멱등 키 최대 길이 */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompletableFuture<Stored>> responses;
+
+    public IdempotencyService(IdempotencyRepository idempotencyRepository,
+                              IdempotencyProperties properties,
+                              ObjectMapper objectMapper) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .build();
+    }
+
+    /**
+     * 멱등 키가 있으면 한 번만 실행하고, 없으면 그대로 실행한다.
+     *
+     * @param userId  사용자 ID
+     * @param scope   엔드포인트 구분 (예: "diary.create")
+     * @param key     Idempotency-Key 헤더 값 (없으면 null)
+     * @param request 요청 내용. 같은 키로 다른 내용을 보냈는지 가리는 데 쓴다.
+     * @param type    응답 타입
+     * @param action  실제 처리
+     * @param <T>     응답 타입
+     * @return 처리 결과 또는 저장된 응답
+     * @throws CustomException 키가 비었거나 {@link #MAX_KEY_LENGTH}자를 넘으면 INVALID_INPUT,
+     *                         같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED,
+     *                         먼저 온 요청이 대기 시간 안에 끝나지 않으면 DUPLICATE_OPERATION
+     */
+    public <T> T execute(Long userId, String scope, String key, Object request,
+                         Class<T> type, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        String cacheKey = userId + ":" + scope + ":" + key;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeoutMs());
+
+        while (true) {
+            CompletableFuture<Stored> flight = new CompletableFuture<>();
+            CompletableFuture<Stored> existing = responses.asMap().putIfAbsent(cacheKey, flight);
+            if (existing != null) {
+                Stored stored = await(existing, deadline);
+                if (stored != null) {
+                    log.debug("멱등 요청 재사용 (scope={}, key={})", scope, key);
+                    return read(stored, fingerprint, type);
+                }
+                // 먼저 온 요청이 실패해 키를 놓았다. 이번 요청이 이어서 처리한다.
+                continue;
+            }
+            return executeOwned(userId, scope, key, fingerprint, type, action, cacheKey, flight, deadline);
+        }
+    }
+
+    /**
+     * 만료된 키를 DB에서 지운다. 메모리 캐시는 스스로 만료된다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purge() {
+        int purged = idempotencyRepository.purge(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("만료된 멱등 키 정리 ({}건)", purged);
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 키를 처음 맡은 요청을 처리한다.
+     * DB에 저장된 응답이 있으면 돌려주고, 다른 인스턴스가 처리 중이면 끝날 때까지 기다린다.
+     */
+    private <T> T executeOwned(Long userId, String scope, String key, String fingerprint,
+                               Class<T> type, Supplier<T> action,
+                               String cacheKey, CompletableFuture<Stored> flight, long deadline) {
+        try {
+            Stored stored = claimOrAwait(userId, scope, key, fingerprint, deadline);
+            if (stored != null) {
+                flight.complete(stored);
+                return read(stored, fingerprint, type);
+            }
+        } catch (RuntimeException e) {
+            abandon(cacheKey, flight);
+            throw e;
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(userId, scope, key);
+            abandon(cacheKey, flight);
+            throw e;
+        }
+
+        String body = objectMapper.writeValueAsString(result);
+        flight.complete(new Stored(fingerprint, body, result));
+        try {
+            idempotencyRepository.complete(userId, scope, key, body,
+                    LocalDateTime.now().plusSeconds(properties.getTtlSeconds()));
+        } catch (RuntimeException e) {
+            // 처리는 끝났으므로 응답은 돌려준다. 처리 중 표시는 유지 시간이 지나면 풀린다.
+            log.warn("멱등 응답 저장 실패 (scope={}, key={}): {}", scope, key, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 키를 처리 중으로 차지한다.
+     *
+     * @return 다른 요청이 이미 처리를 끝냈으면 그 응답, 이번 요청이 차지했으면 null
+     */
+    private Stored claimOrAwait(Long userId, String scope, String key, String fingerprint, long deadline) {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> record = idempotencyRepository.find(userId, scope, key, now);
+            if (record.isPresent()) {
+                IdempotencyRecord found = record.get();
+                if (!found.fingerprint().equals(fingerprint)) {
+                    throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (found.completed()) {
+                    return new Stored(found.fingerprint(), found.response(), null);
+                }
+            } else if (idempotencyRepository.claim(userId, scope, key, fingerprint, now,
+                    now.plus(Duration.ofMillis(properties.getLeaseMs())))) {
+                return null;
+            }
+
+            // 다른 인스턴스가 처리 중이다.
+            if (System.nanoTime() >= deadline) {
+                throw new CustomException(ErrorCode.DUPLICATE_OPERATION);
+            }
+            sleep(properties.getPollIntervalMs());
+        }
+    }
+
+    /**
+     * 실패한 요청의 자리를 비우고, 기다리던 요청이 이어서 처리하도록 알린다.
+     */
+    private void abandon(String cacheKey, CompletableFuture<Stored> flight) {
+        responses.asMap().remove(cacheKey, flight);
+        flight.complete(null);
+    }
+
+    private <T> T read(Stored stored, String fingerprint, Class<T> type) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (stored.value() != null) {
+            return type.cast(stored.value());
+        }
+        return objectMapper.readValue(stored.body(), type);
+    }
+
+    private String fingerprint(Object request) {
+        MessageDigest digest = sha256();
+        return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private static Stored await(CompletableFuture<Stored> flight, long deadline) {
+        try {
+            return flight.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.DUPLICATE_OPERATION);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DUPLICATE_OPERATION);
+        } catch (ExecutionException e) {
+            // 실패는 null로 완료하므로 여기에 오지 않는다.
+            return null;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DUPLICATE_OPERATION);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장된 응답.
+     *
+     * @param fingerprint 요청 본문 해시
+     * @param body        JSON으로 직렬화한 응답
+     * @param value       이 인스턴스가 만든 응답 객체 (DB에서 읽었으면 null)
+     */
+    private record Stored(String fingerprint, String body, Object value) {
+    }
+}
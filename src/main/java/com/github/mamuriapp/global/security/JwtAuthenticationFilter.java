@@ -1,11 +1,14 @@
 package com.github.mamuriapp.global.security;
 
+import com.github.mamuriapp.global.config.AdminConfig;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -13,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * 매 요청마다 JWT 토큰을 검증하고 SecurityContext에 인증 정보를 설정하는 필터.
@@ -23,8 +27,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AdminConfig adminConfig;
 
     /**
      * 요청에서 JWT를 추출하고 검증하여 인증 컨텍스트를 설정한다.
@@ -43,13 +49,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserId(token);
-            String email = jwtTokenProvider.getEmail(token);
+        JwtPrincipal principal = token != null ? jwtTokenProvider.authenticate(token) : null;
+
+        if (principal != null) {
+            List<GrantedAuthority> authorities = adminConfig.isAdmin(principal.email())
+                    ? List.of(new SimpleGrantedAuthority(ROLE_ADMIN))
+                    : Collections.emptyList();
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userId, email, Collections.emptyList());
+                            principal.userId(), principal.email(), authorities);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -0,0 +1,13 @@
+package com.github.mamuriapp.global.security;
+
+import java.time.Instant;
+
+/**
+ * 검증된 JWT에서 추출한 인증 주체.
+ *
+ * @param userId    사용자 ID
+ * @param email     사용자 이메일
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(Long userId, String email, Instant expiresAt) {
+}
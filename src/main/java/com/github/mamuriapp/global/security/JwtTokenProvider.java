@@ -1,8 +1,12 @@
 package com.github.mamuriapp.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.mamuriapp.global.config.JwtConfig;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -22,11 +28,23 @@ public class JwtTokenProvider {
 
     private final JwtConfig jwtConfig;
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, JwtPrincipal> verifiedTokens;
 
     @PostConstruct
     void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+
+        if (jwtConfig.isAuthCacheEnabled()) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(jwtConfig.getAuthCacheMaxSize())
+                    .expireAfter(new UntilTokenExpiry())
+                    .build();
+        }
     }
 
     /**
@@ -52,38 +70,36 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 사용자 ID를 추출한다.
-     *
-     * @param token JWT 토큰
-     * @return 사용자 ID
-     */
-    public Long getUserId(String token) {
-        return parseClaims(token).get("userId", Long.class);
-    }
-
-    /**
-     * 토큰에서 이메일을 추출한다.
+     * 토큰을 한 번만 파싱·검증하여 인증 주체를 반환한다.
+     * 캐시가 활성화되어 있으면 이미 검증된 토큰은 서명 검증 없이 반환하며,
+     * 캐시 항목은 토큰의 만료 시각에 함께 만료된다.
      *
      * @param token JWT 토큰
-     * @return 사용자 이메일
+     * @return 인증 주체 (유효하지 않으면 null)
      */
-    public String getEmail(String token) {
-        return parseClaims(token).getSubject();
-    }
+    public JwtPrincipal authenticate(String token) {
+        if (verifiedTokens != null) {
+            JwtPrincipal cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-    /**
-     * 토큰의 유효성을 검증한다.
-     *
-     * @param token JWT 토큰
-     * @return 유효하면 true, 아니면 false
-     */
-    public boolean validateToken(String token) {
+        JwtPrincipal principal;
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            principal = new JwtPrincipal(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+
+        if (verifiedTokens != null) {
+            verifiedTokens.put(token, principal);
         }
+        return principal;
     }
 
     private String createToken(Long userId, String email, long expiration) {
@@ -100,10 +116,30 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 캐시 항목을 토큰의 exp 시각까지만 유지하는 만료 정책.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            long remaining = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
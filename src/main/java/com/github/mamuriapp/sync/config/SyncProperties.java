@@ -0,0 +1,25 @@
+package com.github.mamuriapp.sync.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오프라인 동기화 설정 프로퍼티.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sync")
+public class SyncProperties {
+
+    /** 한 번의 응답에 담는 최대 변경 수 (일기, AI 코멘트, 삭제 합계) */
+    private int maxChanges = 500;
+
+    /** 삭제 기록 보관 기간 (일). 이보다 오래된 토큰은 전체 재동기화가 필요하다. */
+    private int tombstoneRetentionDays = 90;
+
+    /** 만료된 삭제 기록 정리 주기 (밀리초) */
+    private long purgeIntervalMs = 3_600_000;
+}
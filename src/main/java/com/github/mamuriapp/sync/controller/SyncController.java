@@ -0,0 +1,39 @@
+package com.github.mamuriapp.sync.controller;
+
+import com.github.mamuriapp.global.dto.ApiResponse;
+import com.github.mamuriapp.sync.dto.SyncResponse;
+import com.github.mamuriapp.sync.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 오프라인 동기화 컨트롤러.
+ * 클라이언트는 전체 목록을 다시 받는 대신 마지막 토큰 이후의 변경만 받는다.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * since 토큰 이후의 변경을 조회한다.
+     *
+     * @param authentication 인증 정보
+     * @param since          이전 응답의 nextToken (처음이면 생략)
+     * @return 변경된 일기·AI 코멘트와 삭제 목록
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResponse>> getChanges(
+            Authentication authentication,
+            @RequestParam(required = false) String since) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(syncService.getChanges(userId, since)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.mamuriapp.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 응답의 AI 코멘트 항목 (생성 또는 재생성된 코멘트의 현재 상태).
+ */
+@Getter
+@AllArgsConstructor
+public class SyncAiCommentResponse {
+
+    private Long id;
+    private Long diaryId;
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.github.mamuriapp.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동기화 응답의 삭제 항목.
+ * 일기가 삭제되면 그 일기의 AI 코멘트도 함께 지워야 하며, 코멘트 삭제는 따로 오지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncDeletion {
+
+    /** 삭제된 대상 종류 (DIARY, AI_COMMENT) */
+    private String type;
+
+    private Long id;
+}
@@ -0,0 +1,22 @@
+package com.github.mamuriapp.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 응답의 일기 항목 (생성 또는 수정된 일기의 현재 상태).
+ */
+@Getter
+@AllArgsConstructor
+public class SyncDiaryResponse {
+
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDate diaryDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
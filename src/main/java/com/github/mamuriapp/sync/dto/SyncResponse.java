@@ -0,0 +1,31 @@
+package com.github.mamuriapp.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동기화 응답 DTO.
+ * since 토큰 이후 생성·수정된 일기와 AI 코멘트, 삭제된 항목을 변경 순서대로 최대 한 페이지 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncResponse {
+
+    private List<SyncDiaryResponse> diaries;
+    private List<SyncAiCommentResponse> aiComments;
+    private List<SyncDeletion> deleted;
+
+    /** 다음 요청의 since로 보낼 토큰 (이 응답을 반영한 뒤 저장한다) */
+    private String nextToken;
+
+    /** true이면 남은 변경이 있으므로 nextToken으로 바로 다시 요청한다 */
+    private boolean hasMore;
+
+    /**
+     * true이면 since 토큰이 너무 오래되어 삭제 기록이 남아 있지 않다.
+     * 클라이언트는 로컬 데이터를 비운 뒤 이 응답과 이어지는 페이지를 반영한다.
+     */
+    private boolean reset;
+}
@@ -0,0 +1,60 @@
+package com.github.mamuriapp.sync.dto;
+
+import com.github.mamuriapp.global.exception.CustomException;
+import com.github.mamuriapp.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 동기화 변경 토큰.
+ * 클라이언트가 마지막으로 반영한 사용자별 변경 순번을 나타내며,
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다.
+ *
+ * @param seq 마지막으로 반영한 변경 순번 (0이면 처음부터)
+ */
+public record SyncToken(long seq) {
+
+    /** 처음부터 동기화하는 토큰 */
+    public static final SyncToken INITIAL = new SyncToken(0);
+
+    private static final String PREFIX = "s1:";
+
+    /**
+     * 토큰을 불투명 문자열로 인코딩한다.
+     *
+     * @return Base64URL 인코딩된 토큰
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + seq).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 토큰으로 디코딩한다. 비어 있으면 처음부터 동기화한다.
+     *
+     * @param encoded Base64URL 인코딩된 토큰 (null 가능)
+     * @return SyncToken
+     * @throws CustomException 형식이 올바르지 않으면 INVALID_SYNC_TOKEN
+     */
+    public static SyncToken decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new CustomException(ErrorCode.INVALID_SYNC_TOKEN);
+            }
+            long seq = Long.parseLong(raw.substring(PREFIX.length()));
+            if (seq < 0) {
+                throw new CustomException(ErrorCode.INVALID_SYNC_TOKEN);
+            }
+            return new SyncToken(seq);
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_SYNC_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.mamuriapp.sync.repository;
+
+/**
+ * 변경 순번이 붙은 동기화 항목.
+ *
+ * @param seq  사용자별 변경 순번
+ * @param item 항목
+ * @param <T>  항목 타입
+ */
+public record SyncChange<T>(long seq, T item) {
+}
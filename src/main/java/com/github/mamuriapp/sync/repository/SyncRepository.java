@@ -0,0 +1,146 @@
+package com.github.mamuriapp.sync.repository;
+
+import com.github.mamuriapp.sync.dto.SyncAiCommentResponse;
+import com.github.mamuriapp.sync.dto.SyncDeletion;
+import com.github.mamuriapp.sync.dto.SyncDiaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오프라인 동기화 리포지토리.
+ * 변경 순번(change_seq)은 DB 트리거가 매기므로 JPA 엔티티에 매핑하지 않고 JDBC로 직접 조회한다.
+ * 각 조회는 since 이후 변경을 순번 오름차순으로 최대 limit건 반환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncRepository {
+
+    private static final String DIARY_CHANGES_SQL = """
+            SELECT id, title, content, diary_date, created_at, updated_at, change_seq
+            FROM diaries
+            WHERE user_id = ? AND change_seq > ?
+            ORDER BY change_seq
+            LIMIT ?
+            """;
+
+    private static final String AI_COMMENT_CHANGES_SQL = """
+            SELECT c.id, c.diary_id, c.content, c.created_at, c.change_seq
+            FROM diaries d
+            JOIN ai_comments c ON c.diary_id = d.id AND c.diary_date = d.diary_date
+            WHERE d.user_id = ? AND c.change_seq > ?
+            ORDER BY c.change_seq
+            LIMIT ?
+            """;
+
+    private static final String TOMBSTONES_SQL = """
+            SELECT entity_type, entity_id, change_seq
+            FROM sync_tombstones
+            WHERE user_id = ? AND change_seq > ?
+            ORDER BY change_seq
+            LIMIT ?
+            """;
+
+    private static final String PURGED_SEQ_SQL =
+            "SELECT COALESCE(MAX(purged_seq), 0) FROM sync_counters WHERE user_id = ?";
+
+    /** 만료된 삭제 기록을 지우고, 사용자별로 지운 최대 순번을 기록한다. */
+    private static final String PURGE_SQL = """
+            WITH purged AS (
+                DELETE FROM sync_tombstones WHERE deleted_at < ?
+                RETURNING user_id, change_seq
+            )
+            UPDATE sync_counters s SET purged_seq = GREATEST(s.purged_seq, p.max_seq)
+            FROM (SELECT user_id, MAX(change_seq) AS max_seq FROM purged GROUP BY user_id) p
+            WHERE s.user_id = p.user_id
+            """;
+
+    private static final RowMapper<SyncChange<SyncDiaryResponse>> DIARY_MAPPER = (rs, rowNum) ->
+            new SyncChange<>(rs.getLong("change_seq"), new SyncDiaryResponse(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getDate("diary_date").toLocalDate(),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at"))));
+
+    private static final RowMapper<SyncChange<SyncAiCommentResponse>> AI_COMMENT_MAPPER = (rs, rowNum) ->
+            new SyncChange<>(rs.getLong("change_seq"), new SyncAiCommentResponse(
+                    rs.getLong("id"),
+                    rs.getLong("diary_id"),
+                    rs.getString("content"),
+                    toLocalDateTime(rs.getTimestamp("created_at"))));
+
+    private static final RowMapper<SyncChange<SyncDeletion>> TOMBSTONE_MAPPER = (rs, rowNum) ->
+            new SyncChange<>(rs.getLong("change_seq"), new SyncDeletion(
+                    rs.getString("entity_type"),
+                    rs.getLong("entity_id")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * since 이후 생성·수정된 일기를 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param since  마지막으로 반영한 순번
+     * @param limit  최대 조회 건수
+     * @return 순번 오름차순 변경 목록
+     */
+    public List<SyncChange<SyncDiaryResponse>> findDiaryChanges(Long userId, long since, int limit) {
+        return jdbcTemplate.query(DIARY_CHANGES_SQL, DIARY_MAPPER, userId, since, limit);
+    }
+
+    /**
+     * since 이후 생성·재생성된 AI 코멘트를 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param since  마지막으로 반영한 순번
+     * @param limit  최대 조회 건수
+     * @return 순번 오름차순 변경 목록
+     */
+    public List<SyncChange<SyncAiCommentResponse>> findAiCommentChanges(Long userId, long since, int limit) {
+        return jdbcTemplate.query(AI_COMMENT_CHANGES_SQL, AI_COMMENT_MAPPER, userId, since, limit);
+    }
+
+    /**
+     * since 이후의 삭제 기록을 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param since  마지막으로 반영한 순번
+     * @param limit  최대 조회 건수
+     * @return 순번 오름차순 삭제 목록
+     */
+    public List<SyncChange<SyncDeletion>> findTombstones(Long userId, long since, int limit) {
+        return jdbcTemplate.query(TOMBSTONES_SQL, TOMBSTONE_MAPPER, userId, since, limit);
+    }
+
+    /**
+     * 보관 기간이 지나 지워진 삭제 기록의 최대 순번을 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @return 지워진 최대 순번 (없으면 0)
+     */
+    public long findPurgedSeq(Long userId) {
+        Long purged = jdbcTemplate.queryForObject(PURGED_SEQ_SQL, Long.class, userId);
+        return purged != null ? purged : 0;
+    }
+
+    /**
+     * 기준 시각 이전의 삭제 기록을 지운다.
+     *
+     * @param before 기준 시각 (미포함)
+     * @return 갱신된 사용자 카운터 수
+     */
+    public int purgeTombstones(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(before));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.mamuriapp.sync.service;
+
+import com.github.mamuriapp.sync.config.SyncProperties;
+import com.github.mamuriapp.sync.dto.SyncAiCommentResponse;
+import com.github.mamuriapp.sync.dto.SyncDeletion;
+import com.github.mamuriapp.sync.dto.SyncDiaryResponse;
+import com.github.mamuriapp.sync.dto.SyncResponse;
+import com.github.mamuriapp.sync.dto.SyncToken;
+import com.github.mamuriapp.sync.repository.SyncChange;
+import com.github.mamuriapp.sync.repository.SyncRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 오프라인 동기화 서비스.
+ * 클라이언트가 마지막으로 받은 변경 순번 이후의 일기·AI 코멘트 변경과 삭제만 돌려준다.
+ * 세 조회를 하나의 스냅샷(REPEATABLE READ)에서 실행하므로, 한 트랜잭션이 일기와 코멘트를 함께 바꿔도
+ * 응답에 한쪽만 담기는 일이 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final SyncRepository syncRepository;
+    private final SyncProperties syncProperties;
+
+    /**
+     * since 토큰 이후의 변경을 한 페이지 조회한다.
+     * 토큰이 보관 기간보다 오래되어 삭제 기록이 지워졌으면 처음부터 다시 보내고 reset=true로 알린다.
+     *
+     * @param userId 사용자 ID
+     * @param since  마지막으로 받은 토큰 (없으면 처음부터)
+     * @return 동기화 응답
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse getChanges(Long userId, String since) {
+        long sinceSeq = SyncToken.decode(since).seq();
+        boolean reset = sinceSeq > 0 && sinceSeq < syncRepository.findPurgedSeq(userId);
+        if (reset) {
+            sinceSeq = 0;
+        }
+
+        // 각 종류에서 한 건씩 더 읽어, 합친 뒤 순번 기준 앞 limit건만 담는다.
+        int limit = syncProperties.getMaxChanges();
+        List<SyncChange<SyncDiaryResponse>> diaries =
+                syncRepository.findDiaryChanges(userId, sinceSeq, limit + 1);
+        List<SyncChange<SyncAiCommentResponse>> aiComments =
+                syncRepository.findAiCommentChanges(userId, sinceSeq, limit + 1);
+        // 처음부터 받는 클라이언트에게는 가진 적 없는 항목의 삭제 기록이 필요 없다.
+        List<SyncChange<SyncDeletion>> deletions = sinceSeq == 0
+                ? List.of()
+                : syncRepository.findTombstones(userId, sinceSeq, limit + 1);
+
+        long[] seqs = Stream.of(diaries, aiComments, deletions)
+                .flatMapToLong(changes -> changes.stream().mapToLong(SyncChange::seq))
+                .sorted()
+                .toArray();
+        boolean hasMore = seqs.length > limit;
+        long upTo = hasMore ? seqs[limit - 1] : LongStream.of(seqs).max().orElse(sinceSeq);
+
+        return new SyncResponse(
+                upTo(diaries, upTo),
+                upTo(aiComments, upTo),
+                upTo(deletions, upTo),
+                new SyncToken(upTo).encode(),
+                hasMore,
+                reset);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${sync.purge-interval-ms:3600000}",
+               initialDelayString = "${sync.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusDays(syncProperties.getTombstoneRetentionDays());
+        int users = syncRepository.purgeTombstones(before);
+        if (users > 0) {
+            log.info("만료된 삭제 기록 정리 (users={}, before={})", users, before);
+        }
+    }
+
+    private static <T> List<T> upTo(List<SyncChange<T>> changes, long seq) {
+        return changes.stream()
+                .filter(change -> change.seq() <= seq)
+                .map(SyncChange::item)
+                .toList();
+    }
+}
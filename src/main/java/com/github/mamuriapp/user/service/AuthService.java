@@ -2,6 +2,7 @@ package com.github.mamuriapp.user.service;
 
 import com.github.mamuriapp.global.exception.CustomException;
 import com.github.mamuriapp.global.exception.ErrorCode;
+import com.github.mamuriapp.global.security.JwtPrincipal;
 import com.github.mamuriapp.global.security.JwtTokenProvider;
 import com.github.mamuriapp.user.dto.*;
 import com.github.mamuriapp.user.entity.User;
@@ -84,12 +85,12 @@ public class AuthService {
     public TokenResponse refresh(TokenRefreshRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        JwtPrincipal principal = jwtTokenProvider.authenticate(refreshToken);
+        if (principal == null) {
             throw new CustomException(ErrorCode.TOKEN_INVALID);
         }
 
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        User user = userRepository.findById(userId)
+        User user = userRepository.findById(principal.userId())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         if (!refreshToken.equals(user.getRefreshToken())) {
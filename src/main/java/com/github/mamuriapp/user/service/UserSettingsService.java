@@ -5,9 +5,17 @@ import com.github.mamuriapp.global.exception.ErrorCode;
 import com.github.mamuriapp.user.dto.UserSettingsDto;
 import com.github.mamuriapp.user.entity.UserSettings;
 import com.github.mamuriapp.user.repository.UserSettingsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 사용자 설정 서비스.
@@ -17,8 +25,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserSettingsService {
 
+    /** 설정이 없는 사용자의 AI 톤 */
+    public static final String DEFAULT_AI_TONE = "warm";
+
     private final UserSettingsRepository userSettingsRepository;
 
+    /** AI 코멘트 생성마다 조회되는 톤 설정 캐시 (변경 시 커밋 이후 무효화) */
+    private final Cache<Long, String> aiToneCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    /** 무효화 횟수. 조회 중 무효화가 일어나면 읽은 값을 캐시에 넣지 않는다. */
+    private final AtomicLong aiToneInvalidations = new AtomicLong();
+
     /**
      * 사용자 설정을 조회한다.
      *
@@ -31,6 +51,30 @@ public class UserSettingsService {
         return UserSettingsDto.from(settings);
     }
 
+    /**
+     * 사용자의 AI 톤을 조회한다. 캐시에 있으면 DB를 조회하지 않는다.
+     * 캐시의 원자적 계산(get with loader)은 해시 버킷 모니터를 잡은 채 DB를 조회해 가상 스레드를 고정시키므로,
+     * 미스일 때는 캐시 밖에서 조회한 뒤 그사이 무효화가 없었을 때만 넣는다.
+     *
+     * @param userId 사용자 ID
+     * @return AI 톤 (설정이 없으면 {@link #DEFAULT_AI_TONE})
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getAiTone(Long userId) {
+        String cached = aiToneCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = aiToneInvalidations.get();
+        String aiTone = userSettingsRepository.findByUserId(userId)
+                .map(UserSettings::getAiTone)
+                .orElse(DEFAULT_AI_TONE);
+        if (aiToneInvalidations.get() == generation) {
+            aiToneCache.asMap().putIfAbsent(userId, aiTone);
+        }
+        return aiTone;
+    }
+
     /**
      * 사용자 설정을 변경한다.
      *
@@ -45,7 +89,26 @@ public class UserSettingsService {
 
         settings.updateAiTone(request.getAiTone());
         settings.updateAiEnabled(request.isAiEnabled());
+        evictAiToneAfterCommit(userId);
 
         return UserSettingsDto.from(settings);
     }
+
+    private void evictAiToneAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAiTone(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAiTone(userId);
+            }
+        });
+    }
+
+    private void invalidateAiTone(Long userId) {
+        aiToneInvalidations.incrementAndGet();
+        aiToneCache.invalidate(userId);
+    }
 }
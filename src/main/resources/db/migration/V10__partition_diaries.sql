@@ -0,0 +1,191 @@
+-- 일기 테이블을 diary_date 기준 월별 범위 파티션으로 전환
+-- 월·캘린더 조회(user_id, diary_date 범위)는 해당 월 파티션 하나만 읽고, VACUUM과 인덱스 유지도 파티션 단위로 나뉜다.
+-- 파티션 테이블의 기본 키와 유니크 제약에는 파티션 키가 들어가야 하므로 기본 키는 (id, diary_date)가 된다.
+-- id 자체의 유일성은 시퀀스가 보장한다.
+-- 이후 달의 파티션은 애플리케이션의 DiaryPartitionService가 미리 만든다.
+-- 가장 이른 파티션보다 오래된 날짜는 기본 파티션(diaries_default)에 들어간다.
+-- id만으로 찾으면 모든 파티션의 기본 키 인덱스를 훑으므로, id별 날짜를 diary_locations에 두고
+-- 단건 조회는 여기서 날짜를 얻어 파티션 하나만 읽는다.
+-- 날짜를 바꾸면 행이 다른 파티션으로 옮겨지는데, 이는 행 단위로는 삭제 후 삽입으로 처리된다.
+-- 문장 단위 DELETE 트리거는 UPDATE 문에서 실행되지 않으므로 삭제 기록은 문장 단위 트리거로 남긴다.
+
+-- 1. 일기를 참조하는 테이블: 외래 키를 떼고, 복합 외래 키에 쓸 diary_date를 채운다.
+ALTER TABLE ai_comments DROP CONSTRAINT IF EXISTS ai_comments_diary_id_fkey;
+ALTER TABLE safety_events DROP CONSTRAINT IF EXISTS safety_events_diary_id_fkey;
+ALTER TABLE ai_comment_jobs DROP CONSTRAINT IF EXISTS ai_comment_jobs_diary_id_fkey;
+
+ALTER TABLE ai_comments ADD COLUMN diary_date DATE;
+ALTER TABLE safety_events ADD COLUMN diary_date DATE;
+ALTER TABLE ai_comment_jobs ADD COLUMN diary_date DATE;
+
+-- 채우기만 하는 갱신이 변경 순번을 새로 받지 않도록 동기화 트리거를 잠시 끈다.
+ALTER TABLE ai_comments DISABLE TRIGGER trg_ai_comments_sync_change;
+UPDATE ai_comments c SET diary_date = d.diary_date FROM diaries d WHERE d.id = c.diary_id;
+ALTER TABLE ai_comments ENABLE TRIGGER trg_ai_comments_sync_change;
+UPDATE safety_events s SET diary_date = d.diary_date FROM diaries d WHERE d.id = s.diary_id;
+UPDATE ai_comment_jobs j SET diary_date = d.diary_date FROM diaries d WHERE d.id = j.diary_id;
+
+ALTER TABLE ai_comments ALTER COLUMN diary_date SET NOT NULL;
+ALTER TABLE safety_events ALTER COLUMN diary_date SET NOT NULL;
+ALTER TABLE ai_comment_jobs ALTER COLUMN diary_date SET NOT NULL;
+
+-- 2. 기존 테이블을 비켜 두고 이름이 겹치는 인덱스를 지운다. 시퀀스는 새 테이블로 넘긴다.
+ALTER TABLE diaries RENAME TO diaries_unpartitioned;
+ALTER INDEX diaries_pkey RENAME TO diaries_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_diaries_user_id;
+DROP INDEX IF EXISTS idx_diary_user_date;
+DROP INDEX IF EXISTS idx_diary_date;
+DROP INDEX IF EXISTS idx_diary_user_change;
+DROP INDEX IF EXISTS idx_diary_search_trgm;
+ALTER SEQUENCE diaries_id_seq OWNED BY NONE;
+
+-- 3. 파티션 테이블
+CREATE TABLE diaries (
+    id BIGINT NOT NULL DEFAULT nextval('diaries_id_seq'),
+    user_id BIGINT NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    diary_date DATE NOT NULL,
+    change_seq BIGINT NOT NULL,
+    CONSTRAINT diaries_pkey PRIMARY KEY (id, diary_date),
+    CONSTRAINT diaries_user_id_fkey FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (diary_date);
+
+CREATE TABLE diaries_default PARTITION OF diaries DEFAULT;
+
+-- 기존 데이터의 첫 달(최대 5년 전)부터 석 달 뒤까지 월별 파티션을 만든다.
+DO $$
+DECLARE
+    this_month DATE := date_trunc('month', CURRENT_DATE)::date;
+    month_start DATE;
+BEGIN
+    SELECT GREATEST(
+               date_trunc('month', LEAST(COALESCE(MIN(diary_date), CURRENT_DATE), CURRENT_DATE))::date,
+               (this_month - INTERVAL '60 months')::date)
+    INTO month_start
+    FROM diaries_unpartitioned;
+
+    WHILE month_start <= this_month + INTERVAL '3 months' LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF diaries FOR VALUES FROM (%L) TO (%L)',
+                       'diaries_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- 트리거를 만들기 전에 옮겨 기존 변경 순번을 그대로 유지한다.
+INSERT INTO diaries (id, user_id, title, content, created_at, updated_at, diary_date, change_seq)
+SELECT id, user_id, title, content, created_at, updated_at, diary_date, change_seq
+FROM diaries_unpartitioned;
+
+DROP TABLE diaries_unpartitioned;
+ALTER SEQUENCE diaries_id_seq OWNED BY diaries.id;
+
+-- id → diary_date 조회 테이블 (파티션되지 않은 작은 테이블, 아래 트리거가 유지한다)
+CREATE TABLE diary_locations (
+    id BIGINT PRIMARY KEY,
+    diary_date DATE NOT NULL
+);
+INSERT INTO diary_locations (id, diary_date) SELECT id, diary_date FROM diaries;
+
+-- 4. 인덱스 (부모에 만들면 모든 파티션에 만들어지고, 이후 파티션에도 자동으로 붙는다)
+CREATE INDEX idx_diary_user_date ON diaries(user_id, diary_date DESC);
+CREATE INDEX idx_diary_date ON diaries(diary_date);
+CREATE INDEX idx_diary_user_change ON diaries(user_id, change_seq);
+CREATE INDEX idx_diary_search_trgm
+    ON diaries USING gin (user_id, (title || ' ' || content) gin_trgm_ops);
+
+-- 5. 동기화 트리거 (V7) 재연결과 날짜 조회 테이블 유지
+CREATE TRIGGER trg_diaries_sync_change
+    BEFORE INSERT OR UPDATE ON diaries
+    FOR EACH ROW EXECUTE FUNCTION diaries_sync_change();
+
+-- 파티션 이동은 행 단위로는 삽입으로 실행되고, 같은 파티션 안의 날짜 변경은 UPDATE로 실행된다.
+CREATE OR REPLACE FUNCTION diaries_locate() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO diary_locations (id, diary_date) VALUES (NEW.id, NEW.diary_date)
+    ON CONFLICT (id) DO UPDATE SET diary_date = EXCLUDED.diary_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_diaries_locate
+    AFTER INSERT OR UPDATE OF diary_date ON diaries
+    FOR EACH ROW EXECUTE FUNCTION diaries_locate();
+
+-- 실제 DELETE 문에서만 실행되므로 파티션 이동에는 삭제 기록이 생기지 않고, 일기를 다시 찾을 필요도 없다.
+CREATE OR REPLACE FUNCTION diaries_sync_delete() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (user_id, change_seq, entity_type, entity_id)
+    SELECT user_id, next_sync_seq(user_id), 'DIARY', id FROM deleted_diaries;
+    DELETE FROM diary_locations l USING deleted_diaries d WHERE l.id = d.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_diaries_sync_delete
+    AFTER DELETE ON diaries
+    REFERENCING OLD TABLE AS deleted_diaries
+    FOR EACH STATEMENT EXECUTE FUNCTION diaries_sync_delete();
+
+-- 6. 참조 테이블의 복합 외래 키
+-- 일기 날짜가 바뀌면 ON UPDATE CASCADE로 함께 바뀐다 (파티션 간 이동 시에도 연쇄 삭제되지 않는다, PostgreSQL 15+).
+ALTER TABLE ai_comments ADD CONSTRAINT ai_comments_diary_fkey
+    FOREIGN KEY (diary_id, diary_date) REFERENCES diaries(id, diary_date)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+ALTER TABLE safety_events ADD CONSTRAINT safety_events_diary_fkey
+    FOREIGN KEY (diary_id, diary_date) REFERENCES diaries(id, diary_date)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+ALTER TABLE ai_comment_jobs ADD CONSTRAINT ai_comment_jobs_diary_fkey
+    FOREIGN KEY (diary_id, diary_date) REFERENCES diaries(id, diary_date)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+
+-- 애플리케이션은 일기 엔티티의 날짜를 함께 넣는다. 날짜 없이 들어온 행만 조회 테이블에서 채운다.
+-- 트리거는 이름순으로 실행되므로 trg_ai_comments_diary_date가 trg_ai_comments_sync_change보다 먼저다.
+CREATE OR REPLACE FUNCTION fill_diary_date() RETURNS trigger AS $$
+BEGIN
+    IF NEW.diary_date IS NULL THEN
+        SELECT diary_date INTO NEW.diary_date FROM diary_locations WHERE id = NEW.diary_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ai_comments_diary_date
+    BEFORE INSERT ON ai_comments
+    FOR EACH ROW EXECUTE FUNCTION fill_diary_date();
+
+CREATE TRIGGER trg_safety_events_diary_date
+    BEFORE INSERT ON safety_events
+    FOR EACH ROW EXECUTE FUNCTION fill_diary_date();
+
+CREATE TRIGGER trg_ai_comment_jobs_diary_date
+    BEFORE INSERT ON ai_comment_jobs
+    FOR EACH ROW EXECUTE FUNCTION fill_diary_date();
+
+-- 7. 코멘트 동기화 트리거가 일기를 찾을 때 파티션 하나만 읽도록 diary_date를 함께 쓴다.
+CREATE OR REPLACE FUNCTION ai_comments_sync_change() RETURNS trigger AS $$
+DECLARE
+    owner_id BIGINT;
+BEGIN
+    SELECT user_id INTO owner_id FROM diaries WHERE id = NEW.diary_id AND diary_date = NEW.diary_date;
+    NEW.change_seq := next_sync_seq(owner_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ai_comments_sync_delete() RETURNS trigger AS $$
+DECLARE
+    owner_id BIGINT;
+BEGIN
+    SELECT user_id INTO owner_id FROM diaries WHERE id = OLD.diary_id AND diary_date = OLD.diary_date;
+    IF owner_id IS NOT NULL THEN
+        INSERT INTO sync_tombstones (user_id, change_seq, entity_type, entity_id)
+        VALUES (owner_id, next_sync_seq(owner_id), 'AI_COMMENT', OLD.id);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,3 @@
+-- 호출 한도 초과로 미룬 작업의 다음 시도 시각
+-- 미룬 작업이 폴링마다 다시 잡혀 한도를 계속 두드리지 않도록, 이 시각 전에는 가져가지 않는다.
+ALTER TABLE ai_comment_jobs ADD COLUMN next_attempt_at TIMESTAMP;
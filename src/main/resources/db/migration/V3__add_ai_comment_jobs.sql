@@ -0,0 +1,14 @@
+-- AI 코멘트 비동기 생성 작업 테이블
+CREATE TABLE IF NOT EXISTS ai_comment_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    diary_id BIGINT NOT NULL UNIQUE REFERENCES diaries(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- 워커 폴링용 부분 인덱스 (완료/실패 작업은 제외)
+CREATE INDEX IF NOT EXISTS idx_ai_comment_jobs_claimable
+    ON ai_comment_jobs(id) WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,43 @@
+-- 안전 검사 키워드 사전 테이블
+-- 매처가 공백을 무시하므로 띄어쓰기 변형은 따로 등록하지 않는다.
+CREATE TABLE IF NOT EXISTS safety_keywords (
+    id BIGSERIAL PRIMARY KEY,
+    keyword VARCHAR(100) NOT NULL UNIQUE,
+    category VARCHAR(100) NOT NULL,
+    weight DOUBLE PRECISION NOT NULL DEFAULT 1.0,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- 사전 버전 (키워드 변경 시 트리거로 증가, 서버가 주기적으로 비교)
+CREATE TABLE IF NOT EXISTS safety_dictionary_version (
+    id INT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO safety_dictionary_version (id, version) VALUES (1, 1)
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_safety_dictionary_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE safety_dictionary_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_safety_keywords_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON safety_keywords
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_safety_dictionary_version();
+
+-- 기존 하드코딩 키워드 이관
+INSERT INTO safety_keywords (keyword, category, weight) VALUES
+    ('자살', 'suicide', 1.0),
+    ('자해', 'self_harm', 1.0),
+    ('죽고 싶', 'suicide', 0.9),
+    ('죽을 거', 'suicide', 0.7),
+    ('목숨을 끊', 'suicide', 1.0),
+    ('끝내고 싶', 'suicide', 0.7),
+    ('살고 싶지 않', 'suicide', 0.9),
+    ('세상을 떠나', 'suicide', 0.8)
+ON CONFLICT (keyword) DO NOTHING;
@@ -0,0 +1,22 @@
+-- LLM 사용량 집계 테이블
+-- 호출 한 건마다 행을 쌓지 않고 (날짜, 사용자, 공급자, 모델, 프롬프트 버전)별로 누적한다.
+-- 서버는 메모리에서 합산한 값을 주기적으로 배치 UPSERT한다.
+CREATE TABLE IF NOT EXISTS llm_usage (
+    usage_date DATE NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    provider VARCHAR(50) NOT NULL,
+    model VARCHAR(100) NOT NULL,
+    prompt_version VARCHAR(50) NOT NULL,
+    calls BIGINT NOT NULL DEFAULT 0,
+    prompt_tokens BIGINT NOT NULL DEFAULT 0,
+    completion_tokens BIGINT NOT NULL DEFAULT 0,
+    -- 최대 출력 토큰에 도달해 잘린 호출 수 (finish_reason = length)
+    truncated_calls BIGINT NOT NULL DEFAULT 0,
+    total_latency_ms BIGINT NOT NULL DEFAULT 0,
+    max_latency_ms BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (usage_date, user_id, provider, model, prompt_version)
+);
+
+-- 사용자별 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_llm_usage_user_date ON llm_usage(user_id, usage_date);
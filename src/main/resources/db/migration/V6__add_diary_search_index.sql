@@ -0,0 +1,11 @@
+-- 일기 검색 인덱스
+-- 기본 Postgres에는 한국어 형태소 분석(어간 추출)이 없어 tsvector로는 "공원"으로 "한강공원에서"를 찾지 못한다.
+-- 그래서 글자 단위 트라이그램(pg_trgm)으로 부분 문자열 검색(ILIKE '%검색어%')을 인덱스로 처리한다.
+-- btree_gin으로 user_id를 같은 GIN 인덱스에 넣어, 검색어가 짧아 트라이그램을 뽑을 수 없어도
+-- 해당 사용자의 행만 읽도록 한다.
+-- 검색 쿼리는 인덱스 표현식 (title || ' ' || content)을 그대로 사용해야 한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX IF NOT EXISTS idx_diary_search_trgm
+    ON diaries USING gin (user_id, (title || ' ' || content) gin_trgm_ops);
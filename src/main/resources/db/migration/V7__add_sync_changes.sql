@@ -0,0 +1,118 @@
+-- 오프라인 동기화용 변경 순번과 삭제 기록
+-- 사용자마다 단조 증가하는 변경 순번(change_seq)을 일기·AI 코멘트의 쓰기마다 새로 매기고,
+-- 삭제는 같은 순번 체계로 sync_tombstones에 남긴다.
+-- 순번은 sync_counters의 사용자 행을 갱신해 발급하므로 발급한 트랜잭션이 끝날 때까지 행 잠금이 유지된다.
+-- 따라서 한 사용자 안에서는 순번 순서와 커밋 순서가 같고, 클라이언트는 마지막으로 받은 순번 이후만 요청하면 된다.
+
+-- 사용자별 순번 카운터 (회원 탈퇴 시 연쇄 삭제 트리거가 행을 다시 만들 수 있도록 FK를 두지 않는다)
+CREATE TABLE IF NOT EXISTS sync_counters (
+    user_id BIGINT PRIMARY KEY,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    -- 이 순번 이하의 삭제 기록은 보관 기간이 지나 지워졌다 (이전 토큰은 전체 재동기화 필요)
+    purged_seq BIGINT NOT NULL DEFAULT 0
+);
+
+-- 삭제 기록
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    user_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, change_seq)
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
+
+ALTER TABLE diaries ADD COLUMN change_seq BIGINT;
+ALTER TABLE ai_comments ADD COLUMN change_seq BIGINT;
+
+-- 기존 데이터: 사용자별로 작성·수정 시각 순서대로 순번을 매긴다.
+CREATE TEMP TABLE sync_backfill AS
+SELECT kind, id, user_id,
+       ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY changed_at, kind DESC, id) AS seq
+FROM (
+    SELECT 'DIARY' AS kind, d.id, d.user_id, COALESCE(d.updated_at, d.created_at) AS changed_at
+    FROM diaries d
+    UNION ALL
+    SELECT 'AI_COMMENT', c.id, d.user_id, c.created_at
+    FROM ai_comments c JOIN diaries d ON d.id = c.diary_id
+) changes;
+
+UPDATE diaries d SET change_seq = b.seq
+FROM sync_backfill b WHERE b.kind = 'DIARY' AND b.id = d.id;
+
+UPDATE ai_comments c SET change_seq = b.seq
+FROM sync_backfill b WHERE b.kind = 'AI_COMMENT' AND b.id = c.id;
+
+INSERT INTO sync_counters (user_id, last_seq)
+SELECT user_id, MAX(seq) FROM sync_backfill GROUP BY user_id;
+
+DROP TABLE sync_backfill;
+
+ALTER TABLE diaries ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE ai_comments ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_diary_user_change ON diaries(user_id, change_seq);
+
+-- 사용자의 다음 순번을 발급한다 (카운터 행을 잠그며, 잠금은 트랜잭션 끝까지 유지된다).
+CREATE OR REPLACE FUNCTION next_sync_seq(p_user_id BIGINT) RETURNS BIGINT AS $$
+    INSERT INTO sync_counters (user_id, last_seq) VALUES (p_user_id, 1)
+    ON CONFLICT (user_id) DO UPDATE SET last_seq = sync_counters.last_seq + 1
+    RETURNING last_seq;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION diaries_sync_change() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := next_sync_seq(NEW.user_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION diaries_sync_delete() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (user_id, change_seq, entity_type, entity_id)
+    VALUES (OLD.user_id, next_sync_seq(OLD.user_id), 'DIARY', OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ai_comments_sync_change() RETURNS trigger AS $$
+DECLARE
+    owner_id BIGINT;
+BEGIN
+    SELECT user_id INTO owner_id FROM diaries WHERE id = NEW.diary_id;
+    NEW.change_seq := next_sync_seq(owner_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 일기와 함께 연쇄 삭제된 코멘트는 일기 삭제 기록으로 충분하므로, 코멘트만 지워진 경우에만 남긴다.
+CREATE OR REPLACE FUNCTION ai_comments_sync_delete() RETURNS trigger AS $$
+DECLARE
+    owner_id BIGINT;
+BEGIN
+    SELECT user_id INTO owner_id FROM diaries WHERE id = OLD.diary_id;
+    IF owner_id IS NOT NULL THEN
+        INSERT INTO sync_tombstones (user_id, change_seq, entity_type, entity_id)
+        VALUES (owner_id, next_sync_seq(owner_id), 'AI_COMMENT', OLD.id);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_diaries_sync_change
+    BEFORE INSERT OR UPDATE ON diaries
+    FOR EACH ROW EXECUTE FUNCTION diaries_sync_change();
+
+CREATE TRIGGER trg_diaries_sync_delete
+    AFTER DELETE ON diaries
+    FOR EACH ROW EXECUTE FUNCTION diaries_sync_delete();
+
+CREATE TRIGGER trg_ai_comments_sync_change
+    BEFORE INSERT OR UPDATE ON ai_comments
+    FOR EACH ROW EXECUTE FUNCTION ai_comments_sync_change();
+
+CREATE TRIGGER trg_ai_comments_sync_delete
+    AFTER DELETE ON ai_comments
+    FOR EACH ROW EXECUTE FUNCTION ai_comments_sync_delete();
@@ -0,0 +1,20 @@
+-- 일괄 쓰기 API 지원
+-- 엔티티가 ID를 시퀀스에서 50개 단위로 미리 받아 INSERT를 JDBC 배치로 묶을 수 있도록 증가폭을 맞춘다.
+-- Hibernate pooled 최적화기는 nextval 값을 블록의 끝으로 쓰므로 DEFAULT로 직접 INSERT하는 경로와도 겹치지 않는다.
+ALTER SEQUENCE diaries_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ai_comment_jobs_id_seq INCREMENT BY 50;
+
+-- 일괄 쓰기 연산의 클라이언트 멱등 키
+-- 재전송된 연산은 다시 적용하지 않고 기록된 결과를 돌려준다.
+-- 삭제 연산의 대상 일기는 이미 지워졌으므로 diary_id에는 FK를 두지 않는다.
+CREATE TABLE IF NOT EXISTS diary_operation_keys (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    idempotency_key VARCHAR(64) NOT NULL,
+    op VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    diary_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_diary_operation_keys_created_at ON diary_operation_keys(created_at);
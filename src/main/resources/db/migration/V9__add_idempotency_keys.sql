@@ -0,0 +1,17 @@
+-- Idempotency-Key 헤더 응답 저장소
+-- 프로세스 메모리 캐시에서 밀려났거나 다른 인스턴스가 처리한 요청을 여기서 찾는다.
+-- 처리 중인 행(IN_PROGRESS)은 짧은 만료 시각을 가지므로, 처리하던 인스턴스가 죽어도 그 뒤에 다시 차지할 수 있다.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    scope VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    -- 요청 본문 해시. 같은 키로 다른 요청을 보내면 거절한다.
+    fingerprint VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, scope, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
@@ -0,0 +1,157 @@
+package com.github.mamuriapp.ai.safety;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aho-Corasick 키워드 매처 검증.
+ * 실패 링크로 합쳐지는 출력, 본문 경계, 공백 무시를 확인하고,
+ * 무작위 본문에서 기존의 공백 제거 후 contains 검사와 결과가 같은지 비교한다.
+ */
+class KeywordMatcherTest {
+
+    private static final char[] ALPHABET = {'죽', '고', '싶', '다', '살', '기', '힘', '들', ' '};
+
+    @Test
+    void reportsOverlappingAndSuffixKeywords() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findAll("ushers")).containsExactly(
+                new KeywordMatch(1, "she", 1, 4),
+                new KeywordMatch(0, "he", 2, 4),
+                new KeywordMatch(3, "hers", 2, 6));
+    }
+
+    @Test
+    void reportsKoreanKeywordEndingInsideLongerKeyword() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("자해", "살고 싶지 않", "싶지 않"));
+
+        assertThat(matcher.findAll("더 이상 살고 싶지 않아")).containsExactly(
+                new KeywordMatch(1, "살고 싶지 않", 5, 12),
+                new KeywordMatch(2, "싶지 않", 8, 12));
+    }
+
+    @Test
+    void matchesAtStartAndEndOfText() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("죽고 싶", "끝내고"));
+        String text = "죽고싶어서 다 끝내고";
+
+        assertThat(matcher.findAll(text)).containsExactly(
+                new KeywordMatch(0, "죽고 싶", 0, 3),
+                new KeywordMatch(1, "끝내고", 8, text.length()));
+        assertThat(matcher.findFirst(text)).isEqualTo(new KeywordMatch(0, "죽고 싶", 0, 3));
+        assertThat(matcher.findFirst("끝내고")).isEqualTo(new KeywordMatch(1, "끝내고", 0, 3));
+    }
+
+    @Test
+    void ignoresWhitespaceInTextAndKeywords() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("죽고 싶"));
+
+        assertThat(matcher.findFirst("죽고싶")).isNotNull();
+        assertThat(matcher.findFirst("죽고\n싶")).isEqualTo(new KeywordMatch(0, "죽고 싶", 0, 4));
+        assertThat(matcher.findFirst("죽\t고  싶")).isNotNull();
+        assertThat(matcher.findFirst("죽고 말고 싶")).isNull();
+    }
+
+    @Test
+    void emptyDictionaryMatchesNothing() {
+        KeywordMatcher empty = KeywordMatcher.compile(List.of());
+        KeywordMatcher blank = KeywordMatcher.compile(List.of(" ", ""));
+
+        assertThat(empty.size()).isZero();
+        assertThat(empty.findFirst("죽고 싶다")).isNull();
+        assertThat(empty.findAll("죽고 싶다")).isEmpty();
+        assertThat(blank.findAll("죽고 싶다")).isEmpty();
+        assertThat(empty.findAll(null)).isEmpty();
+    }
+
+    @Test
+    void agreesWithNaiveScanOnRandomCorpus() {
+        Random random = new Random(20_261_018L);
+        for (int round = 0; round < 500; round++) {
+            List<String> keywords = randomKeywords(random);
+            KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+            String text = randomText(random, random.nextInt(200));
+
+            List<KeywordMatch> expected = naiveFindAll(keywords, text);
+            assertThat(matcher.findAll(text))
+                    .as("keywords=%s, text=%s", keywords, text)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+
+            KeywordMatch first = matcher.findFirst(text);
+            if (expected.isEmpty()) {
+                assertThat(first).isNull();
+            } else {
+                int firstEnd = expected.stream().mapToInt(KeywordMatch::end).min().orElseThrow();
+                assertThat(first).isNotNull();
+                assertThat(first.end()).isEqualTo(firstEnd);
+            }
+
+            // 도입 전 SafetyCheckService의 검사: 공백을 지우고 키워드마다 contains
+            String normalized = text.replace(" ", "");
+            for (int i = 0; i < keywords.size(); i++) {
+                int index = i;
+                boolean contained = normalized.contains(keywords.get(i).replace(" ", ""));
+                assertThat(matcher.findAll(text).stream().anyMatch(match -> match.keywordIndex() == index))
+                        .as("keyword=%s, text=%s", keywords.get(i), text)
+                        .isEqualTo(contained);
+            }
+        }
+    }
+
+    /**
+     * 공백을 제거한 뒤 서로 다른 키워드만 만든다. 같은 키워드는 앞의 것만 보고되기 때문이다.
+     */
+    private static List<String> randomKeywords(Random random) {
+        Set<String> normalized = new LinkedHashSet<>();
+        List<String> keywords = new ArrayList<>();
+        int count = 1 + random.nextInt(20);
+        while (keywords.size() < count) {
+            String keyword = randomText(random, 1 + random.nextInt(5));
+            String key = keyword.replace(" ", "");
+            if (!key.isEmpty() && normalized.add(key)) {
+                keywords.add(keyword);
+            }
+        }
+        return keywords;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 공백을 지운 본문에서 키워드마다 모든 위치를 찾고 원문 위치로 되돌린다.
+     */
+    private static List<KeywordMatch> naiveFindAll(List<String> keywords, String text) {
+        StringBuilder normalized = new StringBuilder();
+        List<Integer> originalIndex = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                normalized.append(text.charAt(i));
+                originalIndex.add(i);
+            }
+        }
+
+        List<KeywordMatch> matches = new ArrayList<>();
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k).replace(" ", "");
+            for (int p = normalized.indexOf(keyword); p >= 0; p = normalized.indexOf(keyword, p + 1)) {
+                matches.add(new KeywordMatch(k, keywords.get(k),
+                        originalIndex.get(p), originalIndex.get(p + keyword.length() - 1) + 1));
+            }
+        }
+        return matches;
+    }
+}
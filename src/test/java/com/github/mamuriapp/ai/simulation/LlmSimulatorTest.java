@@ -0,0 +1,98 @@
+package com.github.mamuriapp.ai.simulation;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import com.github.mamuriapp.ai.token.TokenEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 시뮬레이션 지연 분포와 호출 계획 검증.
+ * 고정 시드로 충분히 많이 뽑아 설정한 p50·p99가 허용 오차 안에서 재현되는지 확인한다.
+ */
+class LlmSimulatorTest {
+
+    private static final int SAMPLES = 100_000;
+    private static final long SEED = 42;
+
+    @Test
+    void logNormalSamplesMatchConfiguredPercentiles() {
+        AiProperties.Simulation config = logNormal(700, 4_000);
+        LatencyModel model = LatencyModel.from(config);
+        Random random = new Random(SEED);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = model.sampleMs(random);
+        }
+
+        assertPercentiles(samples, 700, 4_000);
+    }
+
+    @Test
+    void uniformSamplesStayWithinBounds() {
+        AiProperties.Simulation config = new AiProperties.Simulation();
+        config.setLatency(AiProperties.Simulation.LatencyDistribution.UNIFORM);
+        config.setMinMs(300);
+        config.setMaxMs(1_500);
+        LatencyModel model = LatencyModel.from(config);
+        Random random = new Random(SEED);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = model.sampleMs(random);
+        }
+
+        assertThat(Arrays.stream(samples).min().orElseThrow()).isEqualTo(300);
+        assertThat(Arrays.stream(samples).max().orElseThrow()).isEqualTo(1_500);
+        Arrays.sort(samples);
+        assertThat((double) percentile(samples, 0.50)).isCloseTo(900, within(900 * 0.03));
+    }
+
+    @Test
+    void plansFollowLatencyModelAndErrorRate() {
+        AiProperties.Simulation config = logNormal(500, 3_000);
+        config.setErrorRate(0.1);
+        config.setSeed(SEED);
+        LlmSimulator simulator = new LlmSimulator(config, new TokenEstimator(new AiProperties()));
+
+        long[] delays = new long[SAMPLES];
+        int errors = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            LlmSimulator.Plan plan = simulator.plan("오늘 하루를 돌아본다.", 180);
+            delays[i] = plan.firstTokenDelayMs();
+            if (plan.outcome() == LlmSimulator.Outcome.ERROR) {
+                errors++;
+                assertThat(plan.failAfterTokens()).isBetween(0, plan.tokens().size() - 1);
+            } else {
+                assertThat(plan.failAfterTokens()).isEqualTo(plan.tokens().size());
+            }
+        }
+
+        assertPercentiles(delays, 500, 3_000);
+        assertThat((double) errors / SAMPLES).isCloseTo(0.1, within(0.01));
+    }
+
+    private static AiProperties.Simulation logNormal(long p50Ms, long p99Ms) {
+        AiProperties.Simulation config = new AiProperties.Simulation();
+        config.setLatency(AiProperties.Simulation.LatencyDistribution.LOG_NORMAL);
+        config.setP50Ms(p50Ms);
+        config.setP99Ms(p99Ms);
+        return config;
+    }
+
+    private static void assertPercentiles(long[] samples, long p50Ms, long p99Ms) {
+        Arrays.sort(samples);
+        // 99분위는 꼬리 표본이 적어 중앙값보다 오차를 넓게 둔다.
+        assertThat((double) percentile(samples, 0.50)).isCloseTo(p50Ms, within(p50Ms * 0.03));
+        assertThat((double) percentile(samples, 0.99)).isCloseTo(p99Ms, within(p99Ms * 0.08));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+}
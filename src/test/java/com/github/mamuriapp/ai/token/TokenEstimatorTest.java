@@ -0,0 +1,78 @@
+package com.github.mamuriapp.ai.token;
+
+import com.github.mamuriapp.ai.config.AiProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 예산 자르기 검증.
+ * 문장 경계가 없거나 첫 문장이 예산보다 긴 본문은 글자 비율로 자르고,
+ * 어느 경우든 결과는 원문의 앞부분이며 예산을 넘지 않고 서로게이트 쌍을 가르지 않아야 한다.
+ */
+class TokenEstimatorTest {
+
+    private final TokenEstimator estimator = new TokenEstimator(new AiProperties());
+
+    @Test
+    void keepsTextWithinBudget() {
+        String text = "오늘은 조용한 하루였다.";
+
+        assertThat(estimator.truncate(text, estimator.count(text))).isEqualTo(text);
+    }
+
+    @Test
+    void cutsAtSentenceBoundary() {
+        String first = "아침에 산책을 했다.";
+        String text = first + " 점심에는 친구를 만나 오랜만에 이야기를 나눴다. 저녁에는 일찍 잠들었다.";
+
+        assertThat(estimator.truncate(text, estimator.count(first) + 1)).isEqualTo(first);
+    }
+
+    @Test
+    void cutsKoreanTextWithoutPunctuation() {
+        String text = "오늘은 아침부터 비가 와서 우산을 챙겨 나갔고 회사에서는 회의가 길어져 점심을 늦게 먹었다 ".repeat(20);
+        int budget = 30;
+
+        String truncated = estimator.truncate(text, budget);
+
+        assertThat(truncated).isNotEmpty();
+        assertThat(text).startsWith(truncated);
+        assertThat(estimator.count(truncated)).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    void cutsFirstSentenceLongerThanBudget() {
+        String text = "처음 문장은 " + "아주 길게 이어지는 생각들이 끝없이 계속되어서 ".repeat(30) + "끝난다. 두 번째 문장.";
+        int budget = 20;
+
+        String truncated = estimator.truncate(text, budget);
+
+        assertThat(truncated).isNotEmpty();
+        assertThat(text).startsWith(truncated);
+        assertThat(estimator.count(truncated)).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    void doesNotSplitSurrogatePairs() {
+        String text = "기분 😀🌧️🍀 ".repeat(100);
+
+        for (int budget = 1; budget <= 40; budget++) {
+            String truncated = estimator.truncate(text, budget);
+
+            assertThat(estimator.count(truncated)).isLessThanOrEqualTo(budget);
+            assertThat(text).startsWith(truncated);
+            if (!truncated.isEmpty()) {
+                assertThat(Character.isHighSurrogate(truncated.charAt(truncated.length() - 1))).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void returnsEmptyForNonPositiveBudget() {
+        assertThat(estimator.truncate("오늘의 일기", 0)).isEmpty();
+        assertThat(estimator.truncate("오늘의 일기", -5)).isEmpty();
+        assertThat(estimator.truncate("", 0)).isEmpty();
+        assertThat(estimator.truncate(null, 10)).isNull();
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.mamuriapp.diary.controller;
+
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일기 작성 API의 동시 처리량을 잰다.
+ * 지연을 주입한 시뮬레이션 LLM(고정 250ms)으로 동기 코멘트 생성을 켠 채 여러 사용자가 동시에 POST하고,
+ * 처리량과 지연 분위수를 로그와 build/reports/load/diary-create-{mode}.txt 에 기록한다.
+ * 가상 스레드 모드에서는 20ms 이상 캐리어 스레드에 고정된 가상 스레드가 없어야 한다.
+ * 플랫폼 스레드 모드는 Tomcat 요청 스레드(32개)가, 가상 스레드 모드는 DB 커넥션 풀(64개)이 상한이 된다.
+ * 동기 모드의 작성은 트랜잭션 안에서 LLM을 호출하므로 호출 동안 커넥션을 쥐고 있기 때문이다.
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.github.mamuriapp=INFO",
+        "server.tomcat.threads.max=32",
+        "spring.datasource.hikari.maximum-pool-size=64",
+        "ai.provider=simulated",
+        "ai.simulation.latency=FIXED",
+        "ai.simulation.fixed-ms=250",
+        "ai.simulation.tokens-per-second=0",
+        "ai.simulation.error-rate=0",
+        "ai.simulation.timeout-rate=0",
+        "ai.async.enabled=false",
+        "ai.rate-limit.enabled=false",
+        "ai.response-cache.enabled=false",
+        "ai.resilience.max-concurrent-calls=512",
+        "ai.resilience.slow-call-duration-ms=60000"
+})
+abstract class DiaryCreateLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DiaryCreateLoadTest.class);
+
+    private static final int USERS = 64;
+    private static final int DIARIES_PER_USER = 8;
+    private static final int CONCURRENCY = 256;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private HttpClient httpClient;
+
+    @Test
+    void concurrentDiaryCreates() throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             RecordingStream pinning = new RecordingStream()) {
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .build();
+
+            AtomicInteger pinnedEvents = new AtomicInteger();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            List<String> tokens = signUpUsers();
+            // 워밍업: JIT와 커넥션 풀을 데운다.
+            run(clients, tokens, 1, 0);
+
+            long start = System.nanoTime();
+            List<Long> latencies = run(clients, tokens, DIARIES_PER_USER, 1);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            // 비동기로 전달되는 남은 이벤트까지 받은 뒤 센다.
+            pinning.stop();
+
+            report(mode, latencies, seconds, pinnedEvents.get());
+            assertThat(latencies).hasSize(USERS * DIARIES_PER_USER);
+            if (virtualThreads) {
+                assertThat(pinnedEvents.get()).isZero();
+            }
+        }
+    }
+
+    private List<String> signUpUsers() throws Exception {
+        String runId = Long.toString(System.nanoTime(), 36);
+        List<String> tokens = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            HttpResponse<String> response = post("/api/auth/signup", null, Map.of(
+                    "email", "load-" + runId + "-" + i + "@test.com",
+                    "password", "password1234",
+                    "nickname", "load" + i));
+            assertThat(response.statusCode()).isEqualTo(201);
+            tokens.add(objectMapper.readTree(response.body()).path("data").path("accessToken").asString());
+        }
+        return tokens;
+    }
+
+    /**
+     * 사용자마다 perUser건씩, 최대 CONCURRENCY건을 동시에 작성하고 각 요청의 지연(나노초)을 반환한다.
+     */
+    private List<Long> run(ExecutorService clients, List<String> tokens, int perUser, int dayOffset)
+            throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int n = 0; n < perUser; n++) {
+            LocalDate diaryDate = LocalDate.now().minusDays(dayOffset + n);
+            for (String token : tokens) {
+                inFlight.acquire();
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        long requested = System.nanoTime();
+                        HttpResponse<String> response = post("/api/diaries", token, Map.of(
+                                "title", "부하 테스트",
+                                "content", "오늘은 여러 사람이 동시에 일기를 쓰는 날이었다. ".repeat(8),
+                                "diaryDate", diaryDate.toString()));
+                        assertThat(response.statusCode()).isEqualTo(201);
+                        return System.nanoTime() - requested;
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, clients));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private HttpResponse<String> post(String path, String token, Map<String, String> body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void report(String mode, List<Long> latencies, double seconds, int pinnedEvents)
+            throws IOException {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        String summary = String.format(
+                "mode=%s requests=%d seconds=%.2f throughput=%.1f/s p50=%dms p95=%dms p99=%dms pinned=%d%n",
+                mode, sorted.length, seconds, sorted.length / seconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                pinnedEvents);
+        log.info("부하 테스트 결과: {}", summary.strip());
+
+        Path directory = Path.of("build", "reports", "load");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("diary-create-" + mode + ".txt"), summary, StandardCharsets.UTF_8);
+    }
+
+    private static long percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return Duration.ofNanos(sorted[Math.max(0, index)]).toMillis();
+    }
+}
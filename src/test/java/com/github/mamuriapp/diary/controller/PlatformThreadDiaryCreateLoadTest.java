@@ -0,0 +1,10 @@
+package com.github.mamuriapp.diary.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 플랫폼 스레드 모드의 일기 작성 처리량.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadDiaryCreateLoadTest extends DiaryCreateLoadTest {
+}
@@ -0,0 +1,10 @@
+package com.github.mamuriapp.diary.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 가상 스레드 모드의 일기 작성 처리량.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadDiaryCreateLoadTest extends DiaryCreateLoadTest {
+}
@@ -0,0 +1,190 @@
+package com.github.mamuriapp.diary.repository;
+
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.diary.service.DiaryPartitionService;
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일기 조회가 필요한 파티션만 읽는지 실행 계획으로 검증한다.
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 잡아 두고, 같은 파라미터로 EXPLAIN ANALYZE 한다.
+ * 실행 시점에 제외된 파티션은 계획에 나오지 않으므로 실행된 스캔 노드의 테이블만 모은다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.github.mamuriapp.diary.repository.DiaryPartitionPruningTest$CapturingInspector",
+        "ai.async.poll-interval-ms=3600000"
+})
+class DiaryPartitionPruningTest {
+
+    private static final int EXCERPT_LENGTH = 100;
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryPartitionRepository diaryPartitionRepository;
+
+    @Autowired
+    private DiaryPartitionService diaryPartitionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final YearMonth month = YearMonth.now();
+    private final YearMonth pastMonth = month.minusMonths(1);
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        diaryPartitionService.createUpcomingPartitions();
+        if (!diaryPartitionRepository.findPartitionNames().contains(DiaryPartitionRepository.partitionName(pastMonth))) {
+            diaryPartitionRepository.createPartition(pastMonth);
+        }
+        userId = userRepository.save(User.builder()
+                .email("pruning-" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("tester")
+                .build()).getId();
+    }
+
+    @Test
+    void monthListReadsSinglePartition() {
+        diaryRepository.findSummariesByUserIdAndPeriod(
+                userId, month.atDay(1), month.atEndOfMonth(), EXCERPT_LENGTH);
+
+        assertThat(scannedPartitions(EXCERPT_LENGTH, userId, month.atDay(1), month.atEndOfMonth()))
+                .containsExactly(DiaryPartitionRepository.partitionName(month));
+    }
+
+    @Test
+    void calendarReadsSinglePartition() {
+        diaryRepository.findDiaryDatesByUserIdAndPeriod(userId, month.atDay(1), month.atEndOfMonth());
+
+        assertThat(scannedPartitions(userId, month.atDay(1), month.atEndOfMonth()))
+                .containsExactly(DiaryPartitionRepository.partitionName(month));
+    }
+
+    @Test
+    void pastMonthListReadsSinglePartition() {
+        diaryRepository.findSummariesByUserIdAndPeriod(
+                userId, pastMonth.atDay(1), pastMonth.atEndOfMonth(), EXCERPT_LENGTH);
+
+        assertThat(scannedPartitions(EXCERPT_LENGTH, userId, pastMonth.atDay(1), pastMonth.atEndOfMonth()))
+                .containsExactly(DiaryPartitionRepository.partitionName(pastMonth));
+    }
+
+    @Test
+    void calendarBeforeEarliestPartitionReadsDefaultOnly() {
+        YearMonth before = earliestPartition().minusMonths(1);
+        diaryRepository.findDiaryDatesByUserIdAndPeriod(userId, before.atDay(1), before.atEndOfMonth());
+
+        assertThat(scannedPartitions(userId, before.atDay(1), before.atEndOfMonth()))
+                .containsExactly("diaries_default");
+    }
+
+    @Test
+    void calendarAcrossDefaultBoundaryReadsDefaultAndEarliestPartition() {
+        YearMonth earliest = earliestPartition();
+        LocalDate start = earliest.minusMonths(1).atEndOfMonth();
+        diaryRepository.findDiaryDatesByUserIdAndPeriod(userId, start, earliest.atDay(1));
+
+        assertThat(scannedPartitions(userId, start, earliest.atDay(1)))
+                .containsExactlyInAnyOrder("diaries_default", DiaryPartitionRepository.partitionName(earliest));
+    }
+
+    @Test
+    void findByIdReadsSinglePartition() {
+        Diary diary = diaryRepository.save(Diary.builder()
+                .user(userRepository.getReferenceById(userId))
+                .title("지난달 일기")
+                .content("지난달에 쓴 일기")
+                .diaryDate(pastMonth.atDay(15))
+                .build());
+
+        assertThat(diaryRepository.findByIdAndUserId(diary.getId(), userId)).isPresent();
+        assertThat(scannedPartitions(diary.getId(), diary.getId(), userId))
+                .containsExactly(DiaryPartitionRepository.partitionName(pastMonth));
+    }
+
+    /**
+     * 마지막으로 실행된 일기 SQL을 같은 파라미터로 실행해 실제로 스캔한 일기 파티션을 돌려준다.
+     * 파라미터는 SQL에 나오는 순서대로 넘긴다.
+     */
+    private Set<String> scannedPartitions(Object... params) {
+        String sql = CapturingInspector.LAST_DIARY_SQL.get();
+        assertThat(sql).isNotNull();
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(params.length);
+
+        Object[] args = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            args[i] = params[i] instanceof LocalDate date ? Date.valueOf(date) : params[i];
+        }
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, String.class, args);
+        Set<String> relations = new LinkedHashSet<>();
+        collectScannedPartitions(objectMapper.readTree(plan), relations);
+        return relations;
+    }
+
+    private YearMonth earliestPartition() {
+        return diaryPartitionRepository.findPartitionNames().stream()
+                .filter(name -> name.startsWith("diaries_p"))
+                .map(name -> YearMonth.parse(name.substring("diaries_p".length()), SUFFIX))
+                .min(YearMonth::compareTo)
+                .orElseThrow();
+    }
+
+    private static void collectScannedPartitions(JsonNode node, Set<String> relations) {
+        if (node.isObject() && node.has("Relation Name")
+                && node.get("Relation Name").asString().startsWith("diaries")
+                && node.path("Actual Loops").asInt() > 0) {
+            relations.add(node.get("Relation Name").asString());
+        }
+        for (JsonNode child : node) {
+            collectScannedPartitions(child, relations);
+        }
+    }
+
+    /**
+     * 테스트 스레드에서 Hibernate가 마지막으로 준비한 일기 조회 SQL을 기억한다.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final ThreadLocal<String> LAST_DIARY_SQL = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            String lower = sql.toLowerCase();
+            if (lower.startsWith("select") && lower.contains(" from diaries ")) {
+                LAST_DIARY_SQL.set(sql);
+            }
+            return sql;
+        }
+    }
+}
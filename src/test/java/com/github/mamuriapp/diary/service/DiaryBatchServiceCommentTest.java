@@ -0,0 +1,101 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.mamuriapp.ai.dto.AiCommentResponse;
+import com.github.mamuriapp.ai.entity.AiCommentStatus;
+import com.github.mamuriapp.ai.provider.LocalStubProvider;
+import com.github.mamuriapp.ai.service.AiCommentJobService;
+import com.github.mamuriapp.diary.dto.DiaryBatchRequest;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기 모드(ai.async.enabled=false)에서도 일괄 작성한 일기의 AI 코멘트가 커밋 후 워커로 생성되는지 검증한다.
+ * 커밋 이후의 처리를 보려면 실제로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest(properties = {
+        "ai.async.enabled=false",
+        "ai.async.poll-interval-ms=50",
+        "ai.rate-limit.enabled=false"
+})
+class DiaryBatchServiceCommentTest {
+
+    private static final int OPERATIONS = 10;
+    private static final long WAIT_MS = 10_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private DiaryBatchService diaryBatchService;
+
+    @Autowired
+    private AiCommentJobService aiCommentJobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("batch-comment-" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("tester")
+                .build()).getId();
+    }
+
+    @Test
+    void createdDiariesGetCommentsAfterCommit() throws InterruptedException {
+        List<Map<String, String>> operations = new ArrayList<>(IntStream.range(0, OPERATIONS)
+                .mapToObj(i -> Map.of(
+                        "op", "CREATE",
+                        "idempotencyKey", "comment-" + i,
+                        "title", "오프라인 일기 " + i,
+                        "content", "비행기 안에서 쓴 일기."))
+                .toList());
+        operations.add(Map.of(
+                "op", "CREATE",
+                "idempotencyKey", "comment-crisis",
+                "title", "오프라인 일기",
+                "content", "요즘은 정말 죽고 싶다는 생각이 든다."));
+        DiaryBatchRequest request = objectMapper.convertValue(
+                Map.of("operations", operations), DiaryBatchRequest.class);
+
+        List<DiaryBatchResult> results = diaryBatchService.apply(userId, request);
+
+        assertThat(results).hasSize(OPERATIONS + 1).allSatisfy(result ->
+                assertThat(result.getAiComment().getStatus()).isEqualTo(AiCommentStatus.PENDING));
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            assertThat(awaitComment(results.get(i).getDiaryId()).getContent())
+                    .isEqualTo(LocalStubProvider.CONTENT);
+        }
+        // 위기 신호가 있는 일기는 워커에서도 안전 검사를 거쳐 상담 안내로 대체된다.
+        assertThat(awaitComment(results.get(OPERATIONS).getDiaryId()).getContent()).contains("1393");
+    }
+
+    private AiCommentResponse awaitComment(Long diaryId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        AiCommentResponse comment = aiCommentJobService.getStatus(diaryId);
+        while (comment.getStatus() != AiCommentStatus.COMPLETED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            comment = aiCommentJobService.getStatus(diaryId);
+        }
+        assertThat(comment.getStatus()).as("diaryId=%d", diaryId).isEqualTo(AiCommentStatus.COMPLETED);
+        return comment;
+    }
+}
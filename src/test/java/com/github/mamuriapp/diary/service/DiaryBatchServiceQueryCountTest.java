@@ -0,0 +1,110 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.mamuriapp.diary.dto.DiaryBatchRequest;
+import com.github.mamuriapp.diary.dto.DiaryBatchResult;
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 작성 시 일기와 AI 코멘트 작업의 INSERT가 JDBC 배치로 묶여 SQL 실행 횟수가 연산 수와 무관하게 일정한지 검증한다.
+ */
+// 워커의 작업 폴링이 통계에 섞이지 않도록 폴링 간격을 늘린다.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ai.async.poll-interval-ms=3600000"
+})
+@Transactional
+class DiaryBatchServiceQueryCountTest {
+
+    private static final int OPERATIONS = 50;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private DiaryBatchService diaryBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("batch-" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("tester")
+                .build());
+        userId = user.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createsAreBatched() {
+        List<DiaryBatchResult> results = diaryBatchService.apply(userId, creates("first"));
+        entityManager.flush();
+
+        assertThat(results).hasSize(OPERATIONS)
+                .allSatisfy(result -> assertThat(result.getStatus()).isEqualTo(DiaryBatchResult.Status.APPLIED));
+        // 일기와 AI 코멘트 생성 작업이 하나씩
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(OPERATIONS * 2L);
+        // 테이블마다 시퀀스 nextval(최초 할당 시 최대 2회) + 배치 INSERT 1회. 사용자 조회는 없다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void replayedKeysAreNotAppliedAgain() {
+        List<DiaryBatchResult> first = diaryBatchService.apply(userId, creates("replay"));
+        entityManager.flush();
+        statistics.clear();
+
+        List<DiaryBatchResult> replayed = diaryBatchService.apply(userId, creates("replay"));
+        entityManager.flush();
+
+        assertThat(replayed).allSatisfy(result ->
+                assertThat(result.getStatus()).isEqualTo(DiaryBatchResult.Status.DUPLICATE));
+        assertThat(replayed).extracting(DiaryBatchResult::getDiaryId)
+                .containsExactlyElementsOf(first.stream().map(DiaryBatchResult::getDiaryId).toList());
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    private DiaryBatchRequest creates(String keyPrefix) {
+        List<Map<String, String>> operations = IntStream.range(0, OPERATIONS)
+                .mapToObj(i -> Map.of(
+                        "op", "CREATE",
+                        "idempotencyKey", keyPrefix + "-" + i,
+                        "title", "오프라인 일기 " + i,
+                        "content", "비행기 안에서 쓴 일기. ".repeat(10)))
+                .toList();
+        return objectMapper.convertValue(Map.of("operations", operations), DiaryBatchRequest.class);
+    }
+}
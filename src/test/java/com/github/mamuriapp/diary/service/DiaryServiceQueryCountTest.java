@@ -0,0 +1,110 @@
+package com.github.mamuriapp.diary.service;
+
+import com.github.mamuriapp.ai.entity.AiComment;
+import com.github.mamuriapp.ai.repository.AiCommentRepository;
+import com.github.mamuriapp.diary.dto.DiarySummaryResponse;
+import com.github.mamuriapp.diary.entity.Diary;
+import com.github.mamuriapp.diary.repository.DiaryRepository;
+import com.github.mamuriapp.global.dto.CursorPageResponse;
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 시 AI 코멘트를 포함해도 SQL 실행 횟수가 일기 수와 무관하게 일정한지 검증한다.
+ */
+// 워커의 작업 폴링이 통계에 섞이지 않도록 폴링 간격을 늘린다.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ai.async.poll-interval-ms=3600000"
+})
+@Transactional
+class DiaryServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private AiCommentRepository aiCommentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("query-count-" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("tester")
+                .build());
+        userId = user.getId();
+
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Diary diary = diaryRepository.save(Diary.builder()
+                    .user(user)
+                    .title("일기 " + i)
+                    .content("오늘 하루도 무사히 지나갔다. ".repeat(20))
+                    .diaryDate(today.minusDays(i))
+                    .build());
+            aiCommentRepository.save(AiComment.builder()
+                    .diary(diary)
+                    .content("수고 많으셨어요.")
+                    .modelName("local-stub")
+                    .promptVersion("v1")
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageWithoutCommentsUsesSingleStatement() {
+        CursorPageResponse<DiarySummaryResponse> page =
+                diaryService.getPage(userId, null, PAGE_SIZE, false);
+
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pageWithCommentsUsesConstantStatements() {
+        CursorPageResponse<DiarySummaryResponse> page =
+                diaryService.getPage(userId, null, PAGE_SIZE, true);
+
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        assertThat(page.getItems()).allSatisfy(item -> assertThat(item.getAiComment()).isNotNull());
+        // 요약 페이지 1회 + AI 코멘트 IN 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
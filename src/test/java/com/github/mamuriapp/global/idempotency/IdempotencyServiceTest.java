@@ -0,0 +1,101 @@
+package com.github.mamuriapp.global.idempotency;
+
+import com.github.mamuriapp.user.entity.User;
+import com.github.mamuriapp.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 멱등 키의 동시 요청과 다른 인스턴스의 재전송이 처리를 한 번만 실행하는지 검증한다.
+ * 키 기록이 요청마다 바로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private IdempotencyProperties idempotencyProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("idempotency-" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("tester")
+                .build()).getId();
+    }
+
+    @Test
+    void concurrentDuplicatesShareFirstResult() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(CompletableFuture.supplyAsync(() -> idempotencyService.execute(
+                        userId, "test", "concurrent", Map.of("title", "같은 요청"), String.class, () -> {
+                            sleep(200);
+                            return "response-" + executions.incrementAndGet();
+                        }), clients));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(responses).allSatisfy(response -> assertThat(response.join()).isEqualTo("response-1"));
+    }
+
+    @Test
+    void otherInstanceReplaysStoredResponse() {
+        AtomicInteger executions = new AtomicInteger();
+        Map<String, String> request = Map.of("title", "재전송");
+        idempotencyService.execute(userId, "test", "replay", request, String.class,
+                () -> "response-" + executions.incrementAndGet());
+
+        // 메모리 캐시를 공유하지 않는 다른 인스턴스
+        IdempotencyService otherInstance =
+                new IdempotencyService(idempotencyRepository, idempotencyProperties, objectMapper);
+        String replayed = otherInstance.execute(userId, "test", "replay", request, String.class,
+                () -> "response-" + executions.incrementAndGet());
+
+        assertThat(executions).hasValue(1);
+        assertThat(replayed).isEqualTo("response-1");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}